@@ -0,0 +1,43 @@
+package com.gov.tax.calculation;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed-point helpers that carry rupee amounts as a {@code long} count of
+ * paise. Arithmetic stays on primitives and only falls back to
+ * {@link BigDecimal} when an amount has sub-paise precision or a result would
+ * overflow, so the results are always identical to the BigDecimal ones.
+ */
+public final class Paise {
+
+	/** Scale of a rupee amount held in paise. */
+	public static final int SCALE = 2;
+
+	private Paise() {
+	}
+
+	/**
+	 * Converts a rupee amount to paise.
+	 * 
+	 * @param rupees The amount in rupees.
+	 * @return The amount in paise.
+	 * @throws ArithmeticException if the amount has more than two decimal places
+	 *                             or does not fit in a long.
+	 */
+	public static long toPaise(BigDecimal rupees) {
+		if (rupees.scale() > SCALE) {
+			throw new ArithmeticException("Amount has sub-paise precision: " + rupees);
+		}
+		return rupees.scaleByPowerOfTen(SCALE).longValueExact();
+	}
+
+	/**
+	 * Converts paise back to a rupee amount with two decimal places.
+	 * 
+	 * @param paise The amount in paise.
+	 * @return The amount in rupees.
+	 */
+	public static BigDecimal toRupees(long paise) {
+		return BigDecimal.valueOf(paise, SCALE);
+	}
+}
@@ -0,0 +1,215 @@
+package com.gov.tax.calculation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Immutable slab definition for a tax year. The cumulative tax payable at every
+ * slab threshold is computed once when the regime is built, so the liability
+ * for any taxable income is a single threshold lookup followed by one
+ * multiply-add on the marginal rate.
+ * 
+ * Income up to the first threshold is exempt; {@code rates[i]} applies to the
+ * portion of income between {@code thresholds[i - 1]} and {@code thresholds[i]},
+ * and the last rate applies to everything above the last threshold.
+ * 
+ * When every threshold is a whole number of paise and every rate has at most
+ * four decimal places, the regime is also compiled to {@code long} paise and
+ * basis points so rounded liabilities can be computed without BigDecimal.
+ * 
+ * A regime may restrict which deduction types reduce taxable income under it;
+ * without a restriction every deduction type is eligible.
+ */
+public final class TaxRegime {
+
+	// Fixed-point tax is accumulated in units of 1/10000 paise
+	private static final long RATE_SCALE = 10_000L;
+
+	private final String name;
+	private final Year effectiveFrom;
+	private final BigDecimal[] thresholds;
+	private final BigDecimal[] rates;
+	private final BigDecimal[] cumulativeTax;
+	private final long[] thresholdPaise;
+	private final long[] rateBasisPoints;
+	private final long[] cumulativeTaxScaled;
+	private final Set<String> eligibleDeductionTypes;
+
+	private TaxRegime(String name, Year effectiveFrom, BigDecimal[] thresholds, BigDecimal[] rates,
+			Set<String> eligibleDeductionTypes) {
+		if (thresholds.length == 0 || rates.length != thresholds.length + 1) {
+			throw new IllegalArgumentException("A tax regime needs one more rate than it has thresholds");
+		}
+		this.name = name;
+		this.effectiveFrom = effectiveFrom;
+		this.thresholds = thresholds.clone();
+		this.rates = rates.clone();
+		this.cumulativeTax = new BigDecimal[thresholds.length];
+
+		// Tax payable at each threshold, accumulated band by band
+		cumulativeTax[0] = BigDecimal.ZERO;
+		for (int i = 1; i < thresholds.length; i++) {
+			cumulativeTax[i] = cumulativeTax[i - 1]
+					.add(this.thresholds[i].subtract(this.thresholds[i - 1]).multiply(this.rates[i]));
+		}
+
+		long[][] fixedPoint = compileFixedPoint(this.thresholds, this.rates);
+		this.thresholdPaise = fixedPoint[0];
+		this.rateBasisPoints = fixedPoint[1];
+		this.cumulativeTaxScaled = fixedPoint[2];
+		this.eligibleDeductionTypes = eligibleDeductionTypes == null ? null : Set.copyOf(eligibleDeductionTypes);
+	}
+
+	/**
+	 * Converts thresholds to paise, rates to basis points and accumulates the tax
+	 * at each threshold. Returns empty arrays when the regime cannot be
+	 * represented exactly.
+	 */
+	private static long[][] compileFixedPoint(BigDecimal[] thresholds, BigDecimal[] rates) {
+		long[] paise = new long[thresholds.length];
+		long[] basisPoints = new long[rates.length];
+		long[] cumulative = new long[thresholds.length];
+		try {
+			for (int i = 0; i < thresholds.length; i++) {
+				paise[i] = Paise.toPaise(thresholds[i]);
+			}
+			for (int i = 0; i < rates.length; i++) {
+				basisPoints[i] = rates[i].scaleByPowerOfTen(4).longValueExact();
+			}
+			for (int i = 1; i < thresholds.length; i++) {
+				cumulative[i] = Math.addExact(cumulative[i - 1],
+						Math.multiplyExact(paise[i] - paise[i - 1], basisPoints[i]));
+			}
+		} catch (ArithmeticException e) {
+			return new long[][] { new long[0], new long[0], new long[0] };
+		}
+		return new long[][] { paise, basisPoints, cumulative };
+	}
+
+	/**
+	 * Creates a regime from its slab thresholds and marginal rates.
+	 * 
+	 * @param name          Display name of the regime.
+	 * @param effectiveFrom First tax year the regime applies to.
+	 * @param thresholds    Ascending slab thresholds.
+	 * @param rates         Marginal rates, one more than the thresholds.
+	 * @return The precompiled regime.
+	 */
+	public static TaxRegime of(String name, Year effectiveFrom, BigDecimal[] thresholds, BigDecimal[] rates) {
+		return new TaxRegime(name, effectiveFrom, thresholds, rates, null);
+	}
+
+	/**
+	 * Creates a regime under which only the given deduction types reduce taxable
+	 * income.
+	 * 
+	 * @param name                   Display name of the regime.
+	 * @param effectiveFrom          First tax year the regime applies to.
+	 * @param thresholds             Ascending slab thresholds.
+	 * @param rates                  Marginal rates, one more than the thresholds.
+	 * @param eligibleDeductionTypes Deduction types allowed under the regime.
+	 * @return The precompiled regime.
+	 */
+	public static TaxRegime of(String name, Year effectiveFrom, BigDecimal[] thresholds, BigDecimal[] rates,
+			Set<String> eligibleDeductionTypes) {
+		return new TaxRegime(name, effectiveFrom, thresholds, rates, eligibleDeductionTypes);
+	}
+
+	/**
+	 * Checks whether a deduction type reduces taxable income under this regime.
+	 * 
+	 * @param deductionType The deduction type.
+	 * @return true if the deduction is eligible.
+	 */
+	public boolean allowsDeduction(String deductionType) {
+		return eligibleDeductionTypes == null || eligibleDeductionTypes.contains(deductionType);
+	}
+
+	/**
+	 * Calculates the tax liability for the given taxable income.
+	 * 
+	 * @param taxableIncome The taxable income amount.
+	 * @return The tax liability, never negative.
+	 */
+	public BigDecimal taxOn(BigDecimal taxableIncome) {
+		if (taxableIncome.compareTo(BigDecimal.ZERO) <= 0) {
+			return BigDecimal.ZERO;
+		}
+
+		int band = bandOf(taxableIncome);
+		BigDecimal tax = cumulativeTax[band - 1]
+				.add(taxableIncome.subtract(thresholds[band - 1]).multiply(rates[band]));
+		return tax.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : tax;
+	}
+
+	/**
+	 * Calculates the tax liability rounded to paise. Equal to
+	 * {@code taxOn(taxableIncome).setScale(2, RoundingMode.HALF_UP)}, but computed
+	 * on longs unless the income or the result does not fit.
+	 * 
+	 * @param taxableIncome The taxable income amount.
+	 * @return The tax liability with two decimal places.
+	 */
+	public BigDecimal roundedTaxOn(BigDecimal taxableIncome) {
+		if (thresholdPaise.length > 0) {
+			try {
+				return Paise.toRupees(taxOnPaise(Paise.toPaise(taxableIncome)));
+			} catch (ArithmeticException e) {
+				// fall back to exact BigDecimal arithmetic below
+			}
+		}
+		return taxOn(taxableIncome).setScale(Paise.SCALE, RoundingMode.HALF_UP);
+	}
+
+	/**
+	 * Calculates the tax liability in paise for a taxable income in paise,
+	 * rounding half up to the nearest paisa.
+	 * 
+	 * @param taxableIncomePaise The taxable income in paise.
+	 * @return The tax liability in paise.
+	 * @throws ArithmeticException if the regime has no fixed-point form or the
+	 *                             calculation overflows.
+	 */
+	public long taxOnPaise(long taxableIncomePaise) {
+		if (thresholdPaise.length == 0) {
+			throw new ArithmeticException("Tax regime " + name + " has no fixed-point form");
+		}
+		if (taxableIncomePaise <= 0) {
+			return 0L;
+		}
+
+		int index = Arrays.binarySearch(thresholdPaise, 1, thresholdPaise.length, taxableIncomePaise);
+		int band = index >= 0 ? index : -index - 1;
+		long scaledTax = Math.addExact(cumulativeTaxScaled[band - 1], Math.multiplyExact(
+				Math.subtractExact(taxableIncomePaise, thresholdPaise[band - 1]), rateBasisPoints[band]));
+		if (scaledTax <= 0) {
+			return 0L;
+		}
+		return Math.addExact(scaledTax, RATE_SCALE / 2) / RATE_SCALE;
+	}
+
+	/**
+	 * Finds the slab band an income falls into: the first threshold (from the
+	 * second onwards) the income does not exceed, or one past the last threshold.
+	 */
+	private int bandOf(BigDecimal taxableIncome) {
+		int index = Arrays.binarySearch(thresholds, 1, thresholds.length, taxableIncome);
+		return index >= 0 ? index : -index - 1;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Year getEffectiveFrom() {
+		return effectiveFrom;
+	}
+
+	@Override
+	public String toString() {
+		return "TaxRegime(name=" + name + ", effectiveFrom=" + effectiveFrom + ")";
+	}
+}
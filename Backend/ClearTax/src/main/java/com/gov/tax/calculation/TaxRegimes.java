@@ -0,0 +1,81 @@
+package com.gov.tax.calculation;
+
+import java.math.BigDecimal;
+import java.time.Year;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Registry of the tax regimes known to the application. Each regime family
+ * (such as the new and the old regime) is keyed by the first tax year each of
+ * its slab sets applies to. Regimes are built once when the class loads.
+ */
+public final class TaxRegimes {
+
+	public static final String NEW_REGIME = "New Regime";
+	public static final String OLD_REGIME = "Old Regime";
+
+	// Families in the order regimes are compared; the first one is the default
+	private static final Map<String, NavigableMap<Year, TaxRegime>> FAMILIES;
+
+	static {
+		Map<String, NavigableMap<Year, TaxRegime>> families = new LinkedHashMap<>();
+
+		// The new regime only allows employer retirement contributions as a deduction
+		register(families, TaxRegime.of(NEW_REGIME, Year.of(2025),
+				new BigDecimal[] { new BigDecimal("400000"), new BigDecimal("800000"), new BigDecimal("1200000"),
+						new BigDecimal("1600000"), new BigDecimal("2000000"), new BigDecimal("2400000") },
+				new BigDecimal[] { BigDecimal.ZERO, new BigDecimal("0.05"), new BigDecimal("0.10"),
+						new BigDecimal("0.15"), new BigDecimal("0.20"), new BigDecimal("0.25"),
+						new BigDecimal("0.30") },
+				Set.of("Retirement Contributions")));
+
+		register(families, TaxRegime.of(OLD_REGIME, Year.of(2025),
+				new BigDecimal[] { new BigDecimal("250000"), new BigDecimal("500000"), new BigDecimal("1000000") },
+				new BigDecimal[] { BigDecimal.ZERO, new BigDecimal("0.05"), new BigDecimal("0.20"),
+						new BigDecimal("0.30") }));
+
+		families.replaceAll((name, regimes) -> Collections.unmodifiableNavigableMap(regimes));
+		FAMILIES = Collections.unmodifiableMap(families);
+	}
+
+	private TaxRegimes() {
+	}
+
+	private static void register(Map<String, NavigableMap<Year, TaxRegime>> families, TaxRegime regime) {
+		families.computeIfAbsent(regime.getName(), name -> new TreeMap<>()).put(regime.getEffectiveFrom(), regime);
+	}
+
+	/**
+	 * Returns the default regime in force for a tax year: the latest new regime
+	 * slab set effective on or before that year, or the earliest known one for
+	 * older years.
+	 *
+	 * @param taxYear The tax year.
+	 * @return The applicable tax regime.
+	 */
+	public static TaxRegime forYear(Year taxYear) {
+		return inForce(FAMILIES.get(NEW_REGIME), taxYear);
+	}
+
+	/**
+	 * Returns every regime a taxpayer can choose from for a tax year, one per
+	 * regime family, in comparison order.
+	 *
+	 * @param taxYear The tax year.
+	 * @return The regimes in force for the year.
+	 */
+	public static List<TaxRegime> allForYear(Year taxYear) {
+		return FAMILIES.values().stream().map(regimes -> inForce(regimes, taxYear)).toList();
+	}
+
+	private static TaxRegime inForce(NavigableMap<Year, TaxRegime> regimes, Year taxYear) {
+		var entry = regimes.floorEntry(taxYear);
+		return entry != null ? entry.getValue() : regimes.firstEntry().getValue();
+	}
+}
@@ -0,0 +1,80 @@
+package com.gov.tax.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Fails startup when the settings of a Hikari pool (the DB_POOL_* and
+ * DB_REPLICA_POOL_* overrides) do not fit together. Hikari checks each value
+ * on its own when it is bound, but silently replaces inconsistent
+ * combinations, such as a minimum idle above the maximum pool size, with its
+ * defaults once the pool starts, so a mistuned pool would otherwise run with
+ * settings nobody chose.
+ */
+@Component
+public class HikariPoolSettingsValidator implements BeanPostProcessor {
+
+	private static final long MIN_LEAK_DETECTION_MS = TimeUnit.SECONDS.toMillis(2);
+	private static final long MIN_MAX_LIFETIME_MS = TimeUnit.SECONDS.toMillis(30);
+	private static final long MIN_KEEPALIVE_MS = TimeUnit.SECONDS.toMillis(30);
+	private static final long IDLE_TIMEOUT_MARGIN_MS = TimeUnit.SECONDS.toMillis(1);
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof HikariDataSource dataSource) {
+			List<String> problems = validate(dataSource);
+			if (!problems.isEmpty()) {
+				throw new IllegalStateException("Invalid connection pool settings for " + dataSource.getPoolName()
+						+ ": " + String.join("; ", problems));
+			}
+		}
+		return bean;
+	}
+
+	/**
+	 * Checks the pool settings against each other.
+	 *
+	 * @param config The bound, not yet started pool configuration.
+	 * @return One message per inconsistent setting, empty if all fit.
+	 */
+	static List<String> validate(HikariConfig config) {
+		List<String> problems = new ArrayList<>();
+		long maxLifetime = config.getMaxLifetime();
+		// an unset maximum pool size (-1) is derived from minimum-idle
+		if (config.getMaximumPoolSize() > 0 && config.getMinimumIdle() > config.getMaximumPoolSize()) {
+			problems.add("minimum-idle (" + config.getMinimumIdle() + ") exceeds maximum-pool-size ("
+					+ config.getMaximumPoolSize() + ")");
+		}
+		if (config.getValidationTimeout() >= config.getConnectionTimeout()) {
+			problems.add("validation-timeout (" + config.getValidationTimeout()
+					+ " ms) must be below connection-timeout (" + config.getConnectionTimeout() + " ms)");
+		}
+		if (maxLifetime != 0 && maxLifetime < MIN_MAX_LIFETIME_MS) {
+			problems.add("max-lifetime (" + maxLifetime + " ms) must be 0 or at least " + MIN_MAX_LIFETIME_MS + " ms");
+		}
+		if (maxLifetime != 0 && config.getIdleTimeout() != 0
+				&& config.getIdleTimeout() + IDLE_TIMEOUT_MARGIN_MS > maxLifetime) {
+			problems.add("idle-timeout (" + config.getIdleTimeout() + " ms) must be at least "
+					+ IDLE_TIMEOUT_MARGIN_MS + " ms below max-lifetime (" + maxLifetime + " ms)");
+		}
+		long keepalive = config.getKeepaliveTime();
+		if (keepalive != 0 && (keepalive < MIN_KEEPALIVE_MS || (maxLifetime != 0 && keepalive >= maxLifetime))) {
+			problems.add("keepalive-time (" + keepalive + " ms) must be 0 or between " + MIN_KEEPALIVE_MS
+					+ " ms and max-lifetime");
+		}
+		long leakDetection = config.getLeakDetectionThreshold();
+		if (leakDetection != 0 && (leakDetection < MIN_LEAK_DETECTION_MS
+				|| (maxLifetime != 0 && leakDetection > maxLifetime))) {
+			problems.add("leak-detection-threshold (" + leakDetection + " ms) must be 0 or between "
+					+ MIN_LEAK_DETECTION_MS + " ms and max-lifetime");
+		}
+		return problems;
+	}
+}
@@ -0,0 +1,19 @@
+package com.gov.tax.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+
+/**
+ * Lets entities holding lazy references be returned as JSON. A reference that
+ * was never loaded is written as its ID alone instead of being fetched.
+ */
+@Configuration
+public class JacksonConfig {
+
+	@Bean
+	Hibernate6Module hibernate6Module() {
+		return new Hibernate6Module().enable(Hibernate6Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS);
+	}
+}
@@ -1,27 +1,51 @@
 package com.gov.tax.config;
 
-import org.springframework.context.annotation.Bean;
-import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.authentication.Http403ForbiddenEntryPoint;
+import java.io.IOException;
+import java.util.List;
 
-public class JwtAuthenticationFilter {
-	@Bean
-	SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint)
-			throws Exception {
-		http.csrf(AbstractHttpConfigurer::disable)
-				.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-				.exceptionHandling(ex -> ex.authenticationEntryPoint(jwtAuthenticationEntryPoint))
-				.authorizeHttpRequests(
-						auth -> auth.requestMatchers("/api/auth/**").permitAll().anyRequest().authenticated());
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
 
-		return http.build();
-	}
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Authenticates requests carrying a bearer token issued at login. The role
+ * claim becomes a {@code ROLE_*} authority so admin-only routes can be guarded
+ * in {@link SecurityConfig}. A missing or invalid token leaves the request
+ * anonymous.
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	private final JwtTokenUtil jwtTokenUtil;
 
-	@Bean
-	Http403ForbiddenEntryPoint forbiddenEntryPoint() {
-		return new Http403ForbiddenEntryPoint();
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+		if (header != null && header.startsWith(BEARER_PREFIX)) {
+			try {
+				Claims claims = jwtTokenUtil.parseToken(header.substring(BEARER_PREFIX.length()));
+				String role = jwtTokenUtil.getRole(claims);
+				List<SimpleGrantedAuthority> authorities = role == null ? List.of()
+						: List.of(new SimpleGrantedAuthority("ROLE_" + role));
+				SecurityContextHolder.getContext().setAuthentication(
+						new UsernamePasswordAuthenticationToken(claims.getSubject(), null, authorities));
+			} catch (JwtException | IllegalArgumentException e) {
+				SecurityContextHolder.clearContext();
+			}
+		}
+		filterChain.doFilter(request, response);
 	}
 }
@@ -1,10 +1,12 @@
 package com.gov.tax.config;
 
-import java.security.Key;
 import java.util.Date;
 
+import javax.crypto.SecretKey;
+
 import org.springframework.stereotype.Component;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -13,14 +15,30 @@ import io.jsonwebtoken.security.Keys;
 public class JwtTokenUtil {
 
 	private static final String SECRET_KEY = "secretsecretsecretsecretsecret123123123123vqewifewqihwqeihewdiwqedoiewqoieqik";
+	private static final String ROLE_CLAIM = "role";
 
-	private static Key getSigningKey() {
+	private static SecretKey getSigningKey() {
 		byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
 		return Keys.hmacShaKeyFor(keyBytes);
 	}
 
-	public String generateToken(String email) {
-		return Jwts.builder().subject(email).issuedAt(new Date())
+	public String generateToken(String email, String role) {
+		return Jwts.builder().subject(email).claim(ROLE_CLAIM, role).issuedAt(new Date())
 				.expiration(new Date(System.currentTimeMillis() + 10 * 60 * 1000)).signWith(getSigningKey()).compact();
 	}
+
+	/**
+	 * Verifies the signature and expiry of a token and returns its claims.
+	 *
+	 * @param token The compact JWT.
+	 * @return The verified claims.
+	 * @throws io.jsonwebtoken.JwtException if the token is invalid or expired.
+	 */
+	public Claims parseToken(String token) {
+		return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+	}
+
+	public String getRole(Claims claims) {
+		return claims.get(ROLE_CLAIM, String.class);
+	}
 }
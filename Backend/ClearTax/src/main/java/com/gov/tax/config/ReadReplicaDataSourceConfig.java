@@ -0,0 +1,54 @@
+package com.gov.tax.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Adds a replica connection pool next to the primary one when
+ * {@code tax.datasource.replica.url} is set, and routes read-only service
+ * transactions to it through {@link ReadReplicaRoutingDataSource}. Without the
+ * property the auto-configured single pool is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty("tax.datasource.replica.url")
+public class ReadReplicaDataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	@ConfigurationProperties("tax.datasource.replica.hikari")
+	HikariDataSource replicaDataSource(DataSourceProperties properties,
+			@Value("${tax.datasource.replica.url}") String url,
+			@Value("${tax.datasource.replica.username:${spring.datasource.username}}") String username,
+			@Value("${tax.datasource.replica.password:${spring.datasource.password}}") String password) {
+		return DataSourceBuilder.create().type(HikariDataSource.class).driverClassName(properties.getDriverClassName())
+				.url(url).username(username).password(password).build();
+	}
+
+	@Bean
+	@Primary
+	DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica, ReplicaLagGuard lagGuard,
+			@Value("${tax.datasource.replica.retry-after:30s}") Duration retryAfter) {
+		return new LazyConnectionDataSourceProxy(
+				new ReadReplicaRoutingDataSource(primary, replica, lagGuard, retryAfter));
+	}
+}
@@ -0,0 +1,82 @@
+package com.gov.tax.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions started in the service layer to the replica and
+ * everything else to the primary. Read-only transactions that Spring Data opens
+ * around single repository calls stay on the primary, since write paths use
+ * them to load the rows they are about to change.
+ * <p>
+ * The transaction flags are only known once the transaction has begun, so this
+ * data source must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ * Reads of a user whose data changed within the maximum replica lag stay on
+ * the primary, see {@link ReplicaLagGuard}. When the replica cannot hand out a
+ * connection, reads fall back to the primary and the replica is left alone for
+ * the configured retry delay.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+	// Declarative transactions are named after the method that started them
+	static final String SERVICE_PACKAGE = "com.gov.tax.service.";
+
+	private final DataSource primary;
+	private final DataSource replica;
+	private final ReplicaLagGuard lagGuard;
+	private final long retryAfterNanos;
+
+	private volatile long replicaRetryAt;
+
+	public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagGuard lagGuard,
+			Duration retryAfter) {
+		this.primary = primary;
+		this.replica = replica;
+		this.lagGuard = lagGuard;
+		this.retryAfterNanos = retryAfter.toNanos();
+		this.replicaRetryAt = System.nanoTime();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return useReplica() ? replicaOrPrimary(null, null) : primary.getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return useReplica() ? replicaOrPrimary(username, password) : primary.getConnection(username, password);
+	}
+
+	private boolean useReplica() {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			return false;
+		}
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return false;
+		}
+		String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+		return transactionName != null && transactionName.startsWith(SERVICE_PACKAGE)
+				&& System.nanoTime() - replicaRetryAt >= 0 && !lagGuard.mustReadPrimary();
+	}
+
+	private Connection replicaOrPrimary(String username, String password) throws SQLException {
+		try {
+			return username == null ? replica.getConnection() : replica.getConnection(username, password);
+		} catch (SQLException e) {
+			replicaRetryAt = System.nanoTime() + retryAfterNanos;
+			logger.warn("Read replica unavailable, reading from the primary: {}", e.getMessage());
+			return username == null ? primary.getConnection() : primary.getConnection(username, password);
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.gov.tax.config;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Keeps the reads of a user's data on the primary for a while after that data
+ * changed, so that a replica lagging behind never hides a change, whether the
+ * user made it or an admin job did. Write paths record the users whose data
+ * they change, and read-only service methods declare the user whose data they
+ * read through {@link #readFor(Long)}. Writes are remembered per user for the
+ * configured maximum replica lag, counted from the commit.
+ */
+@Component
+public class ReplicaLagGuard {
+
+	private final Cache<Long, Boolean> recentWrites;
+
+	public ReplicaLagGuard(@Value("${tax.datasource.replica.max-lag:5s}") Duration maxLag) {
+		this.recentWrites = Caffeine.newBuilder().expireAfterWrite(maxLag).maximumSize(100_000).build();
+	}
+
+	/**
+	 * Records that the data of a user is changing on the primary.
+	 *
+	 * @param userId The ID of the user whose data changes.
+	 */
+	public void recordWrite(Long userId) {
+		recordWrites(List.of(userId));
+	}
+
+	/**
+	 * Records that the data of several users is changing on the primary. The
+	 * users are recorded again once the surrounding transaction commits, since
+	 * the replica only starts catching up from there.
+	 *
+	 * @param userIds The IDs of the users whose data changes.
+	 */
+	public void recordWrites(Collection<Long> userIds) {
+		List<Long> writtenUserIds = List.copyOf(userIds);
+		writtenUserIds.forEach(userId -> recentWrites.put(userId, Boolean.TRUE));
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					writtenUserIds.forEach(userId -> recentWrites.put(userId, Boolean.TRUE));
+				}
+			});
+		}
+	}
+
+	/**
+	 * Declares the user whose data the current transaction reads. Must be called
+	 * before the transaction runs its first statement, since that is when the
+	 * connection is chosen.
+	 *
+	 * @param userId The ID of the user whose data is read.
+	 */
+	public void readFor(Long userId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		if (TransactionSynchronizationManager.hasResource(this)) {
+			TransactionSynchronizationManager.unbindResource(this);
+		} else {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(ReplicaLagGuard.this);
+				}
+			});
+		}
+		TransactionSynchronizationManager.bindResource(this, userId);
+	}
+
+	/**
+	 * Tells whether the user whose data the current transaction reads had it
+	 * changed recently enough that the replica may not have caught up yet. Reads
+	 * that declared no user, such as admin listings, may use the replica.
+	 *
+	 * @return {@code true} if the read must go to the primary.
+	 */
+	public boolean mustReadPrimary() {
+		Object userId = TransactionSynchronizationManager.getResource(this);
+		return userId != null && recentWrites.getIfPresent((Long) userId) != null;
+	}
+}
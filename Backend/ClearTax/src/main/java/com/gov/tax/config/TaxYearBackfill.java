@@ -0,0 +1,37 @@
+package com.gov.tax.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.gov.tax.repository.DeductionRepository;
+import com.gov.tax.repository.IncomeRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Fills the stored tax year of incomes and deductions written before the
+ * column existed. New and updated rows get it from the entity callbacks, so
+ * after the first run this only touches rows with a missing tax year. Runs
+ * while the context is being built, so the web server only starts accepting
+ * requests once every row has a tax year to be queried by.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaxYearBackfill {
+
+	private static final Logger logger = LoggerFactory.getLogger(TaxYearBackfill.class);
+
+	private final IncomeRepository incomeRepository;
+	private final DeductionRepository deductionRepository;
+
+	@PostConstruct
+	public void backfillTaxYears() {
+		int incomes = incomeRepository.backfillTaxYear();
+		int deductions = deductionRepository.backfillTaxYear();
+		if (incomes > 0 || deductions > 0) {
+			logger.info("Backfilled tax year of {} incomes and {} deductions", incomes, deductions);
+		}
+	}
+}
@@ -73,7 +73,7 @@ public class DeductionController {
 	 * @return ResponseEntity containing the list of deductions.
 	 */
 	@GetMapping("/user/{userId}")
-	public ResponseEntity<List<Deduction>> getDeductionsByUserId(@PathVariable Long userId,
+	public ResponseEntity<List<DeductionDTO>> getDeductionsByUserId(@PathVariable Long userId,
 			@RequestParam int isAmended) {
 		return ResponseEntity.ok(deductionService.getDeductionsByUserId(userId, isAmended));
 	}
@@ -87,7 +87,7 @@ public class DeductionController {
 	 * @return ResponseEntity containing the list of deductions.
 	 */
 	@GetMapping("/user/{userId}/{year}")
-	public ResponseEntity<List<Deduction>> getDeductionsByYearAndUserId(@PathVariable Long userId,
+	public ResponseEntity<List<DeductionDTO>> getDeductionsByYearAndUserId(@PathVariable Long userId,
 			@PathVariable int year, @RequestParam int isAmended) {
 		return ResponseEntity.ok(deductionService.getDeductionsByYearAndUserId(userId, year, isAmended));
 	}
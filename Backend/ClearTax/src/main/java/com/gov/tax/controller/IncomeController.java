@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.gov.tax.dto.BulkIncomeUpdateDTO;
 import com.gov.tax.dto.IncomeDTO;
 import com.gov.tax.entity.Income;
 import com.gov.tax.service.IncomeService;
@@ -46,10 +47,11 @@ public class IncomeController {
 	 *
 	 * @param userId         The user ID whose income records are to be updated.
 	 * @param updatedIncomes The list of updated income details.
-	 * @return ResponseEntity containing a success message.
+	 * @return ResponseEntity containing the number of incomes inserted, updated
+	 *         and deleted.
 	 */
 	@PutMapping("/user/{userId}/update")
-	public ResponseEntity<String> updateIncomeDetails(@PathVariable Long userId,
+	public ResponseEntity<BulkIncomeUpdateDTO> updateIncomeDetails(@PathVariable Long userId,
 			@RequestBody List<IncomeDTO> updatedIncomes) {
 		return ResponseEntity.ok(incomeService.updateIncomeDetails(userId, updatedIncomes));
 	}
@@ -97,7 +99,7 @@ public class IncomeController {
 	 * @return ResponseEntity containing the list of income records.
 	 */
 	@GetMapping("/user/{userId}")
-	public ResponseEntity<List<Income>> getIncomesByUserId(@PathVariable Long userId, @RequestParam int isAmended) {
+	public ResponseEntity<List<IncomeDTO>> getIncomesByUserId(@PathVariable Long userId, @RequestParam int isAmended) {
 		return ResponseEntity.ok(incomeService.getIncomesByUserId(userId, isAmended));
 	}
 
@@ -111,7 +113,7 @@ public class IncomeController {
 	 * @return ResponseEntity containing the list of income records.
 	 */
 	@GetMapping("/user/{userId}/{year}")
-	public ResponseEntity<List<Income>> getIncomesByYearAndUserId(@PathVariable Long userId, @PathVariable int year,
+	public ResponseEntity<List<IncomeDTO>> getIncomesByYearAndUserId(@PathVariable Long userId, @PathVariable int year,
 			@RequestParam int isAmended) {
 		return ResponseEntity.ok(incomeService.getIncomesByYearAndUserId(userId, year, isAmended));
 	}
@@ -2,6 +2,7 @@ package com.gov.tax.controller;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +16,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.gov.tax.dto.AmendmentRequestDTO;
+import com.gov.tax.dto.BulkTaxCalculationDTO;
+import com.gov.tax.dto.RegimeComparisonDTO;
+import com.gov.tax.dto.TaxCalculationDTO;
+import com.gov.tax.dto.TaxCalculationHistoryDTO;
+import com.gov.tax.dto.TaxSimulationDTO;
+import com.gov.tax.dto.TaxSimulationRequestDTO;
 import com.gov.tax.entity.TaxCalculation;
 import com.gov.tax.service.TaxCalculationService;
 
@@ -45,6 +52,20 @@ public class TaxCalculationController {
 				HttpStatus.CREATED);
 	}
 
+	/**
+	 * Calculates and saves the tax liability of many users for a tax year in one
+	 * request.
+	 *
+	 * @param year    The tax year.
+	 * @param userIds The user IDs to calculate for; all users when omitted.
+	 * @return ResponseEntity containing the per-user outcomes.
+	 */
+	@PostMapping("/bulk/{year}")
+	public ResponseEntity<BulkTaxCalculationDTO> calculateTaxLiabilityInBulk(@PathVariable int year,
+			@RequestBody(required = false) Set<Long> userIds) {
+		return ResponseEntity.ok(taxCalculationService.calculateTaxLiabilityInBulk(year, userIds));
+	}
+
 	/**
 	 * Updates the tax liability if income or deductions change for a given year.
 	 *
@@ -67,7 +88,7 @@ public class TaxCalculationController {
 	 * @return ResponseEntity containing the tax calculation details.
 	 */
 	@GetMapping("/{userId}/{year}")
-	public ResponseEntity<TaxCalculation> getTaxDetails(@PathVariable Long userId, @PathVariable int year,
+	public ResponseEntity<TaxCalculationDTO> getTaxDetails(@PathVariable Long userId, @PathVariable int year,
 			@RequestParam int isAmended) {
 		return ResponseEntity.ok(taxCalculationService.getTaxDetails(userId, year, isAmended));
 	}
@@ -79,10 +100,22 @@ public class TaxCalculationController {
 	 * @return ResponseEntity containing a list of past tax calculations.
 	 */
 	@GetMapping("/history/{userId}")
-	public ResponseEntity<List<TaxCalculation>> getTaxHistory(@PathVariable Long userId) {
+	public ResponseEntity<List<TaxCalculationDTO>> getTaxHistory(@PathVariable Long userId) {
 		return ResponseEntity.ok(taxCalculationService.getTaxHistory(userId));
 	}
 
+	/**
+	 * Retrieves the calculation history for a user with each amendment linked to
+	 * its original calculation.
+	 *
+	 * @param userId The user ID.
+	 * @return ResponseEntity containing the flattened calculation history.
+	 */
+	@GetMapping("/history/{userId}/amendments")
+	public ResponseEntity<List<TaxCalculationHistoryDTO>> getAmendmentHistory(@PathVariable Long userId) {
+		return ResponseEntity.ok(taxCalculationService.getAmendmentHistory(userId));
+	}
+
 	/**
 	 * Calculates the total gross income for a user in a given year.
 	 *
@@ -119,6 +152,33 @@ public class TaxCalculationController {
 		return ResponseEntity.ok(taxCalculationService.slabBasedTaxCalculation(taxableIncome));
 	}
 
+	/**
+	 * Compares the tax liability of a user for a year under every available
+	 * regime.
+	 *
+	 * @param userId The user ID.
+	 * @param year   The tax year.
+	 * @return ResponseEntity containing the liability per regime and the cheapest
+	 *         regime.
+	 */
+	@GetMapping("/regime-comparison/{userId}/{year}")
+	public ResponseEntity<RegimeComparisonDTO> compareTaxRegimes(@PathVariable Long userId, @PathVariable int year) {
+		return ResponseEntity.ok(taxCalculationService.compareTaxRegimes(userId, year));
+	}
+
+	/**
+	 * Simulates the tax liability for a list or range of taxable incomes and
+	 * optional deduction changes in one request, without reading user data.
+	 *
+	 * @param simulationRequest The incomes and deduction changes to evaluate.
+	 * @return ResponseEntity containing the liability of every combination.
+	 */
+	@PostMapping("/simulate")
+	public ResponseEntity<TaxSimulationDTO> simulateTaxLiability(
+			@RequestBody TaxSimulationRequestDTO simulationRequest) {
+		return ResponseEntity.ok(taxCalculationService.simulateTaxLiability(simulationRequest));
+	}
+
 	/**
 	 * Handles tax amendments when changes are needed.
 	 *
@@ -13,7 +13,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.gov.tax.dto.TaxFillingDTO;
-import com.gov.tax.entity.TaxFilling;
+import com.gov.tax.dto.TaxFillingHistoryDTO;
 import com.gov.tax.service.TaxFillingService;
 
 import lombok.RequiredArgsConstructor;
@@ -108,7 +108,7 @@ public class TaxFillingController {
 	 * @return ResponseEntity containing the list of past tax filings.
 	 */
 	@GetMapping("/getTaxFillingHistory")
-	public ResponseEntity<List<TaxFilling>> getTaxFillingHistory(@RequestParam Long userId) {
+	public ResponseEntity<List<TaxFillingHistoryDTO>> getTaxFillingHistory(@RequestParam Long userId) {
 		return ResponseEntity.ok(taxFillingService.getTaxFillingHistory(userId));
 	}
 }
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.gov.tax.dto.TaxPaymentDTO;
 import com.gov.tax.entity.TaxPayment;
 import com.gov.tax.service.TaxPaymentService;
 import com.razorpay.RazorpayException;
@@ -41,19 +42,22 @@ public class TaxPaymentController {
 	 * @return ResponseEntity containing tax payment details.
 	 */
 	@GetMapping("/getTaxPaymentByUserId")
-	public ResponseEntity<TaxPayment> getTaxPaymentByUserId(@RequestParam Long userId) {
+	public ResponseEntity<TaxPaymentDTO> getTaxPaymentByUserId(@RequestParam Long userId) {
 		return ResponseEntity.ok(taxPaymentService.getTaxPaymentByUserId(userId));
 	}
 
 	/**
-	 * Retrieves all tax payment records for a user.
+	 * Retrieves one page of the completed tax payment records for a user.
 	 *
 	 * @param userId The user ID.
+	 * @param page   The zero-based page number.
+	 * @param size   The number of payments per page.
 	 * @return ResponseEntity containing a list of tax payments.
 	 */
 	@GetMapping("/getAllTaxPaymentByUserId")
-	public ResponseEntity<List<TaxPayment>> getAllTaxPaymentByUserId(@RequestParam Long userId) {
-		return ResponseEntity.ok(taxPaymentService.getAllTaxPaymentByUserId(userId));
+	public ResponseEntity<List<TaxPaymentDTO>> getAllTaxPaymentByUserId(@RequestParam Long userId,
+			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "50") int size) {
+		return ResponseEntity.ok(taxPaymentService.getAllTaxPaymentByUserId(userId, page, size));
 	}
 
 	/**
@@ -64,7 +68,7 @@ public class TaxPaymentController {
 	 * @return ResponseEntity containing tax payment details.
 	 */
 	@GetMapping("/getTaxPaymentByUserIdAndTransactionId")
-	public ResponseEntity<TaxPayment> getTaxPaymentByUserIdAndTransactionId(@RequestParam Long userId,
+	public ResponseEntity<TaxPaymentDTO> getTaxPaymentByUserIdAndTransactionId(@RequestParam Long userId,
 			@RequestParam String transactionId) {
 		return ResponseEntity.ok(taxPaymentService.getTaxPaymentByUserIdAndTransactionId(userId, transactionId));
 	}
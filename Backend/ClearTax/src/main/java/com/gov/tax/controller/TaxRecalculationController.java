@@ -0,0 +1,48 @@
+package com.gov.tax.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.gov.tax.dto.TaxRecalculationStatusDTO;
+import com.gov.tax.service.TaxRecalculationService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Controller for the year-end job that recomputes the tax calculations of all
+ * users.
+ */
+@RestController
+@RequestMapping("/api/tax-recalculations")
+@RequiredArgsConstructor
+public class TaxRecalculationController {
+
+	private final TaxRecalculationService taxRecalculationService;
+
+	/**
+	 * Starts recomputing the tax calculations of every user for a year.
+	 *
+	 * @param year The tax year.
+	 * @return ResponseEntity containing the status of the started run.
+	 */
+	@PostMapping("/{year}")
+	public ResponseEntity<TaxRecalculationStatusDTO> startRecalculation(@PathVariable int year) {
+		return new ResponseEntity<>(taxRecalculationService.startRecalculation(year), HttpStatus.ACCEPTED);
+	}
+
+	/**
+	 * Retrieves the progress, throughput and error counts of the current or last
+	 * run.
+	 *
+	 * @return ResponseEntity containing the run status.
+	 */
+	@GetMapping("/status")
+	public ResponseEntity<TaxRecalculationStatusDTO> getStatus() {
+		return ResponseEntity.ok(taxRecalculationService.getStatus());
+	}
+}
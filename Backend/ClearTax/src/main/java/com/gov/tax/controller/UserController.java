@@ -1,8 +1,13 @@
 package com.gov.tax.controller;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,11 +16,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gov.tax.dto.RegisterUserDTO;
 import com.gov.tax.dto.UpdateUserDTO;
 import com.gov.tax.dto.UserDTO;
+import com.gov.tax.dto.UserPageDTO;
 import com.gov.tax.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -30,7 +39,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UserController {
 
+	private static final String NDJSON = "application/x-ndjson";
+
 	private final UserService userService;
+	private final ObjectMapper objectMapper;
 
 	/**
 	 * Retrieves user details by user ID.
@@ -55,13 +67,49 @@ public class UserController {
 	}
 
 	/**
-	 * Retrieves a list of all registered users.
+	 * Retrieves one keyset page of registered users ordered by ID.
 	 *
-	 * @return ResponseEntity containing a list of users.
+	 * @param afterUserId The nextCursor of the previous page; omit for the first
+	 *                    page.
+	 * @param size        The maximum number of users in the page.
+	 * @param userRole    Optional role filter.
+	 * @param createdFrom Optional inclusive lower bound of the creation date.
+	 * @param createdTo   Optional exclusive upper bound of the creation date.
+	 * @return ResponseEntity containing the page of users.
 	 */
 	@GetMapping("/all")
-	public ResponseEntity<List<UserDTO>> getAllUsers() {
-		return ResponseEntity.ok(userService.getAllUsers());
+	public ResponseEntity<UserPageDTO> getUsers(@RequestParam(required = false) Long afterUserId,
+			@RequestParam(defaultValue = "50") int size, @RequestParam(required = false) String userRole,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdFrom,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdTo) {
+		return ResponseEntity.ok(userService.getUsers(afterUserId, size, userRole, createdFrom, createdTo));
+	}
+
+	/**
+	 * Streams every matching user as newline-delimited JSON, one user per line,
+	 * when the client asks for {@code application/x-ndjson}.
+	 *
+	 * @param userRole    Optional role filter.
+	 * @param createdFrom Optional inclusive lower bound of the creation date.
+	 * @param createdTo   Optional exclusive upper bound of the creation date.
+	 * @return ResponseEntity writing the users as they are read.
+	 */
+	@GetMapping(value = "/all", produces = NDJSON)
+	public ResponseEntity<StreamingResponseBody> streamUsers(@RequestParam(required = false) String userRole,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdFrom,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdTo) {
+		StreamingResponseBody body = out -> {
+			userService.forEachUser(userRole, createdFrom, createdTo, user -> {
+				try {
+					out.write(objectMapper.writeValueAsBytes(user));
+					out.write('\n');
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			out.flush();
+		};
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
 	}
 
 	/**
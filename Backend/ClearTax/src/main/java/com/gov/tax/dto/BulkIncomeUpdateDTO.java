@@ -0,0 +1,17 @@
+package com.gov.tax.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkIncomeUpdateDTO {
+	private int inserted;
+	private int updated;
+	private int deleted;
+	private int unchanged;
+}
@@ -0,0 +1,20 @@
+package com.gov.tax.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkTaxCalculationDTO {
+	private int taxYear;
+	private int created;
+	private int updated;
+	private int skipped;
+	private List<TaxCalculationOutcomeDTO> outcomes;
+}
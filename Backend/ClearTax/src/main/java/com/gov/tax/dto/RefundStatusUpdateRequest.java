@@ -11,6 +11,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class RefundStatusUpdateRequest {
 	private String refundStatus;
+	// Status the client last saw, the update is refused if the refund has moved on since
+	private String expectedStatus;
 	private BankDetails bankDetails;
 
 }
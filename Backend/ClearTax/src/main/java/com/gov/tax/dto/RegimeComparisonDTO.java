@@ -0,0 +1,21 @@
+package com.gov.tax.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RegimeComparisonDTO {
+	private Long userId;
+	private int taxYear;
+	private BigDecimal grossIncome;
+	private List<RegimeLiabilityDTO> regimes;
+	private String cheapestRegime;
+}
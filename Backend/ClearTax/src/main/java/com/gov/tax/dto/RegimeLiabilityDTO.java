@@ -0,0 +1,19 @@
+package com.gov.tax.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RegimeLiabilityDTO {
+	private String regime;
+	private BigDecimal eligibleDeductions;
+	private BigDecimal taxableIncome;
+	private BigDecimal taxLiability;
+}
@@ -1,14 +1,20 @@
 package com.gov.tax.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.Year;
 
 @Data
 @Builder
+@AllArgsConstructor
+@NoArgsConstructor
 public class TaxCalculationDTO {
+    private Long taxCalculationId;
+    private Long userId;
     private BigDecimal grossIncome;
     private BigDecimal deductions;
     private BigDecimal taxableIncome;
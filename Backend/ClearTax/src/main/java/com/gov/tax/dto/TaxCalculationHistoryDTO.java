@@ -0,0 +1,25 @@
+package com.gov.tax.dto;
+
+import java.math.BigDecimal;
+import java.time.Year;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaxCalculationHistoryDTO {
+	private Long taxCalculationId;
+	private Year taxYear;
+	private int isAmended;
+	private BigDecimal grossIncome;
+	private BigDecimal deductions;
+	private BigDecimal taxableIncome;
+	private BigDecimal taxLiability;
+	private Long originalTaxCalculationId;
+	private BigDecimal originalTaxLiability;
+}
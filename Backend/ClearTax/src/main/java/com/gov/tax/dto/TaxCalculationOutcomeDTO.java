@@ -0,0 +1,21 @@
+package com.gov.tax.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaxCalculationOutcomeDTO {
+	private Long userId;
+	private String status;
+	private BigDecimal grossIncome;
+	private BigDecimal deductions;
+	private BigDecimal taxLiability;
+	private String message;
+}
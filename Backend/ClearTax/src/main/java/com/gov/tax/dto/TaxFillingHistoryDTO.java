@@ -0,0 +1,22 @@
+package com.gov.tax.dto;
+
+import java.time.LocalDate;
+import java.time.Year;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaxFillingHistoryDTO {
+	private Long taxFilingId;
+	private Year taxYear;
+	private LocalDate filingDate;
+	private String fillingStatus;
+	private String refundStatus;
+	private boolean pdfGenerated;
+}
@@ -1,18 +1,25 @@
 package com.gov.tax.dto;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
-import com.gov.tax.entity.User;
+import com.gov.tax.entity.PaymentStatus;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@AllArgsConstructor
+@NoArgsConstructor
 public class TaxPaymentDTO {
-    private String paymentDate; 
+    private Long taxPaymentId;
+    private Long userId;
+    private LocalDate paymentDate;
     private BigDecimal amountPaid;
-    private String paymentStatus;
+    private PaymentStatus paymentStatus;
     private String transactionId;
-    private User user;
+    private Long taxCalculationId;
 }
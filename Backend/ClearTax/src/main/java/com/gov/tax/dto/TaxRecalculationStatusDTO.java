@@ -0,0 +1,27 @@
+package com.gov.tax.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaxRecalculationStatusDTO {
+	private Integer taxYear;
+	private String status;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private long processedUsers;
+	private long created;
+	private long updated;
+	private long skipped;
+	private long failedUsers;
+	private long failedPages;
+	private double usersPerSecond;
+	private String lastError;
+}
@@ -0,0 +1,18 @@
+package com.gov.tax.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaxSimulationDTO {
+	private int taxYear;
+	private String regime;
+	private List<TaxSimulationPointDTO> points;
+}
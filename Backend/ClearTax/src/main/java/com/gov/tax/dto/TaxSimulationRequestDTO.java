@@ -0,0 +1,29 @@
+package com.gov.tax.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Taxable incomes to simulate, given either as an explicit list or as a range
+ * from {@code rangeStart} to {@code rangeEnd} (inclusive) in steps of
+ * {@code rangeStep}. Each deduction change is an additional deduction
+ * subtracted from every taxable income; negative values model a removed
+ * deduction.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaxSimulationRequestDTO {
+	private Integer taxYear;
+	private List<BigDecimal> taxableIncomes;
+	private BigDecimal rangeStart;
+	private BigDecimal rangeEnd;
+	private BigDecimal rangeStep;
+	private List<BigDecimal> deductionChanges;
+}
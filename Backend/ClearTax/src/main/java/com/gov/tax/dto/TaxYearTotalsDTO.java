@@ -0,0 +1,29 @@
+package com.gov.tax.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaxYearTotalsDTO {
+	private Long userId;
+	private int taxYear;
+	private BigDecimal grossIncome;
+	private long incomeCount;
+	private BigDecimal totalDeductions;
+	private long deductionCount;
+
+	public boolean hasIncome() {
+		return incomeCount > 0;
+	}
+
+	public boolean hasDeductions() {
+		return deductionCount > 0;
+	}
+}
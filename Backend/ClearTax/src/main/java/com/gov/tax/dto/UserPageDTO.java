@@ -0,0 +1,18 @@
+package com.gov.tax.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserPageDTO {
+	private List<UserDTO> users;
+	// userId to pass as afterUserId for the next page, null on the last page
+	private Long nextCursor;
+}
@@ -2,25 +2,34 @@ package com.gov.tax.entity;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.Year;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Builder
 @Data
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
+@Table(indexes = @Index(name = "idx_income_user_year_amended", columnList = "userId, taxYear, isAmended"))
 public class Income {
 
 	@Id
@@ -28,8 +37,10 @@ public class Income {
 	@Column(name = "income_id")
 	private Long incomeId;
 
-	@ManyToOne(optional = false)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "userId", nullable = false)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	private User user;
 
 	@Column(nullable = false)
@@ -44,4 +55,14 @@ public class Income {
 	@Column(nullable = false)
 	@Builder.Default
 	private int isAmended = 0;  
+
+	// Tax year of incomeDate, kept in sync on every insert and update. Nullable so the
+	// column can be added to existing tables and backfilled at startup.
+	private Year taxYear;
+
+	@PrePersist
+	@PreUpdate
+	void syncTaxYear() {
+		taxYear = incomeDate == null ? null : Year.from(incomeDate);
+	}
 }
@@ -0,0 +1,38 @@
+package com.gov.tax.entity;
+
+import java.util.Arrays;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Status of a tax payment. Each status is stored and serialized by its label,
+ * the same text the payment status column and the API have always carried.
+ */
+public enum PaymentStatus {
+	PENDING("Pending"), COMPLETED("Completed");
+
+	private final String label;
+
+	PaymentStatus(String label) {
+		this.label = label;
+	}
+
+	@JsonValue
+	public String getLabel() {
+		return label;
+	}
+
+	/**
+	 * Returns the status with the given label.
+	 *
+	 * @param label The stored or serialized label, such as "Pending".
+	 * @return The matching status.
+	 * @throws IllegalArgumentException If no status has the label.
+	 */
+	@JsonCreator
+	public static PaymentStatus fromLabel(String label) {
+		return Arrays.stream(values()).filter(status -> status.label.equals(label)).findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("Unknown payment status: " + label));
+	}
+}
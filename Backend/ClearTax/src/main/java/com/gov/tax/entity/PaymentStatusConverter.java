@@ -0,0 +1,21 @@
+package com.gov.tax.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a payment status by its label so existing rows keep their values.
+ */
+@Converter(autoApply = true)
+public class PaymentStatusConverter implements AttributeConverter<PaymentStatus, String> {
+
+	@Override
+	public String convertToDatabaseColumn(PaymentStatus status) {
+		return status == null ? null : status.getLabel();
+	}
+
+	@Override
+	public PaymentStatus convertToEntityAttribute(String label) {
+		return label == null ? null : PaymentStatus.fromLabel(label);
+	}
+}
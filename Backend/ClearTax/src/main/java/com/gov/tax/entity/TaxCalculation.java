@@ -2,8 +2,14 @@ package com.gov.tax.entity;
 
 import java.math.BigDecimal;
 import java.time.Year;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -13,21 +19,30 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Builder
 @Data
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TaxCalculation.CACHE_REGION)
 public class TaxCalculation {
 
+    // Second-level cache region, sized in application.conf
+    public static final String CACHE_REGION = "taxCalculations";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long taxCalculationId;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "userId", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     @Column(nullable = false)
@@ -48,7 +63,9 @@ public class TaxCalculation {
     @Column(nullable = false)
     private int isAmended;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "originalTaxCalculationId", referencedColumnName = "taxCalculationId")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private TaxCalculation originalTaxCalculation; 
 }
@@ -3,32 +3,44 @@ package com.gov.tax.entity;
 import java.time.LocalDate;
 import java.time.Year;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Builder
 @Data
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_tax_filling_user_year",
+        columnNames = { "userId", "taxYear" }))
 public class TaxFilling {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long taxFilingId;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "userId", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     @Column(nullable = false)
@@ -48,4 +60,10 @@ public class TaxFilling {
     @Column(nullable = false)
     private String refundStatus;
 
+    // Optimistic lock version, rows that predate the column start at 0
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
 }
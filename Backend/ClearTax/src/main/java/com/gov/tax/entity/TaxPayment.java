@@ -3,33 +3,49 @@ package com.gov.tax.entity;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Builder
 @Data
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
+@Table(indexes = @Index(name = "idx_tax_payment_user_status", columnList = "userId, paymentStatus"),
+		uniqueConstraints = @UniqueConstraint(name = "uk_tax_payment_filing", columnNames = "taxFilingId"))
+@NamedEntityGraph(name = "TaxPayment.taxCalculation", attributeNodes = @NamedAttributeNode("taxCalculation"))
 public class TaxPayment {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long taxPaymentId;
 
-	@ManyToOne(optional = false)
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "userId", nullable = false)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	private User user;
 
 	private LocalDate paymentDate;
@@ -37,10 +53,25 @@ public class TaxPayment {
 	@Column(nullable = false)
 	private BigDecimal amountPaid;
 
-	private String paymentStatus;
+	private PaymentStatus paymentStatus;
 	private String transactionId;
 	
-	@OneToOne
+	@OneToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "taxCalculationId")
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	private TaxCalculation taxCalculation;
+
+	// The filing whose submission created this payment, unset for amendment payments
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "taxFilingId")
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private TaxFilling taxFiling;
+
+	// Optimistic lock version, rows that predate the column start at 0
+	@Version
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private long version;
 }
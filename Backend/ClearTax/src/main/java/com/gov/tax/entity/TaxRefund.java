@@ -3,32 +3,43 @@ package com.gov.tax.entity;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Builder
 @Data
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
+@NamedEntityGraph(name = "TaxRefund.user", attributeNodes = @NamedAttributeNode("user"))
 public class TaxRefund {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long taxRefundId;
 
-	@OneToOne(optional = false)
+	@OneToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "userId", nullable = false)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	private User user;
 
 	@Column(nullable = false)
@@ -39,4 +50,10 @@ public class TaxRefund {
 
 	@Column(nullable = false)
 	private String refundStatus;
+
+	// Optimistic lock version, rows that predate the column start at 0
+	@Version
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private long version;
 }
@@ -0,0 +1,67 @@
+package com.gov.tax.entity;
+
+import java.math.BigDecimal;
+import java.time.Year;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Running income and deduction totals of a user for one tax year and
+ * amendment status, kept in step with the income and deduction line items.
+ */
+@Entity
+@Builder
+@Data
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = { "userId", "taxYear", "isAmended" }))
+public class TaxYearSummary {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long taxYearSummaryId;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "userId", nullable = false)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private User user;
+
+	@Column(nullable = false)
+	private Year taxYear;
+
+	@Column(nullable = false)
+	private int isAmended;
+
+	@Column(nullable = false)
+	@Builder.Default
+	private BigDecimal grossIncome = BigDecimal.ZERO;
+
+	@Column(nullable = false)
+	@Builder.Default
+	private long incomeCount = 0;
+
+	@Column(nullable = false)
+	@Builder.Default
+	private BigDecimal totalDeductions = BigDecimal.ZERO;
+
+	@Column(nullable = false)
+	@Builder.Default
+	private long deductionCount = 0;
+}
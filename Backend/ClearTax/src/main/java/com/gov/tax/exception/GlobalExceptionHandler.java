@@ -1,5 +1,6 @@
 package com.gov.tax.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -29,6 +30,24 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(ex.getMessage(), HttpStatus.NO_CONTENT);
 	}
 
+	@ExceptionHandler(InvalidRequestException.class)
+	public ResponseEntity<String> handleInvalidRequestException(InvalidRequestException ex) {
+		return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+	}
+
+	// the record is no longer in the state the request expected
+	@ExceptionHandler(ResourceConflictException.class)
+	public ResponseEntity<String> handleResourceConflictException(ResourceConflictException ex) {
+		return new ResponseEntity<>(ex.getMessage(), HttpStatus.CONFLICT);
+	}
+
+	// a concurrent update kept winning after the service retried
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<String> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+		return new ResponseEntity<>("The record was changed by another request, please reload and try again.",
+				HttpStatus.CONFLICT);
+	}
+
 	@ExceptionHandler(RazorpayException.class)
 	public ResponseEntity<String> handleRazorpayException(RazorpayException ex) {
 		return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_GATEWAY);
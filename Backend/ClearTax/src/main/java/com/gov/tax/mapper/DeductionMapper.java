@@ -1,6 +1,7 @@
 package com.gov.tax.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import com.gov.tax.dto.DeductionDTO;
 import com.gov.tax.entity.Deduction;
@@ -10,5 +11,6 @@ public interface DeductionMapper {
 
 	DeductionDTO deductionToDeductionDTO(Deduction deduction);
 
+	@Mapping(target = "taxYear", ignore = true)
 	Deduction deductionDTOToDeduction(DeductionDTO deductionDTO);
 }
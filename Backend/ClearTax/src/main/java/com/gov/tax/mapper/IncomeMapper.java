@@ -1,6 +1,7 @@
 package com.gov.tax.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import com.gov.tax.dto.IncomeDTO;
 import com.gov.tax.entity.Income;
@@ -10,5 +11,6 @@ public interface IncomeMapper {
 	
     IncomeDTO incomeToIncomeDTO(Income income);
 
+    @Mapping(target = "taxYear", ignore = true)
     Income incomeDTOToIncome(IncomeDTO incomeDTO);
 }
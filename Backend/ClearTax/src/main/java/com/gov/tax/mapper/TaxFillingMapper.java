@@ -3,10 +3,12 @@ package com.gov.tax.mapper;
 import com.gov.tax.dto.TaxFillingDTO;
 import com.gov.tax.entity.TaxFilling;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface TaxFillingMapper {
     TaxFillingDTO toDTO(TaxFilling taxFiling);
 
+    @Mapping(target = "version", ignore = true)
     TaxFilling toEntity(TaxFillingDTO taxFilingDTO);
 }
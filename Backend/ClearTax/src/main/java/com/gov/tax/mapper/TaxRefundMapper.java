@@ -3,10 +3,12 @@ package com.gov.tax.mapper;
 import com.gov.tax.dto.TaxRefundDTO;
 import com.gov.tax.entity.TaxRefund;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface TaxRefundMapper {
     TaxRefundDTO toDTO(TaxRefund taxRefund);
 
+    @Mapping(target = "version", ignore = true)
     TaxRefund toEntity(TaxRefundDTO taxRefundDTO);
 }
@@ -1,27 +1,78 @@
 package com.gov.tax.repository;
 
+import java.time.Year;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.gov.tax.dto.DeductionDTO;
 import com.gov.tax.entity.Deduction;
+import com.gov.tax.repository.projection.AmountSummary;
+import com.gov.tax.repository.projection.DeductionTypeSummary;
+import com.gov.tax.repository.projection.UserAmountSummary;
 
+/**
+ * Year-scoped lookups filter on the stored taxYear column, an equality seek on
+ * the (user_id, tax_year, is_amended) index.
+ */
 @Repository
 public interface DeductionRepository extends JpaRepository<Deduction, Long> {
 	public List<Deduction> findByUserUserId(Long userId);
 
-	@Query("SELECT d FROM Deduction d WHERE d.user.userId = :userId AND YEAR(d.deductionDate) = :year")
-	public List<Deduction> findByUserUserIdAndDeductionDateYear(Long userId, int year);
+	public List<Deduction> findByUserUserIdAndTaxYear(Long userId, Year taxYear);
 
-    @Query("SELECT i FROM Deduction i WHERE i.user.userId = :userId AND YEAR(i.deductionDate) = :year AND i.isAmended = :isAmended")
-	public List<Deduction> findByUserUserIdAndDeductionDateYearAndIsAmended(
-			 @Param("userId") Long userId, 
-		        @Param("year") int year,
-		        @Param("isAmended") int isAmended);
 
-	public List<Deduction> findByUserUserIdAndIsAmended(Long userId, int isAmended);
+	// Deduction columns only, by userId and amendment status
+	@Query("SELECT new com.gov.tax.dto.DeductionDTO(d.deductionId, d.user.userId, d.deductionType, d.amount, "
+			+ "d.deductionDate, d.isAmended) FROM Deduction d WHERE d.user.userId = :userId AND d.isAmended = :isAmended")
+	List<DeductionDTO> findDetailsByUserIdAndIsAmended(@Param("userId") Long userId,
+			@Param("isAmended") int isAmended);
 
+	// Deduction columns only, by userId, tax year and amendment status
+	@Query("SELECT new com.gov.tax.dto.DeductionDTO(d.deductionId, d.user.userId, d.deductionType, d.amount, "
+			+ "d.deductionDate, d.isAmended) FROM Deduction d "
+			+ "WHERE d.user.userId = :userId AND d.taxYear = :taxYear AND d.isAmended = :isAmended")
+	List<DeductionDTO> findDetailsByUserIdAndTaxYearAndIsAmended(@Param("userId") Long userId,
+			@Param("taxYear") Year taxYear, @Param("isAmended") int isAmended);
+
+	// Sum and count deductions by userId and tax year
+	@Query("SELECT new com.gov.tax.repository.projection.AmountSummary(SUM(d.amount), COUNT(d)) FROM Deduction d "
+			+ "WHERE d.user.userId = :userId AND d.taxYear = :taxYear")
+	AmountSummary summarizeByUserUserIdAndTaxYear(@Param("userId") Long userId, @Param("taxYear") Year taxYear);
+
+	// Sum and count deductions by userId and tax year, per deduction type
+	@Query("SELECT new com.gov.tax.repository.projection.DeductionTypeSummary(d.deductionType, SUM(d.amount), "
+			+ "COUNT(d)) FROM Deduction d WHERE d.user.userId = :userId AND d.taxYear = :taxYear "
+			+ "GROUP BY d.deductionType")
+	List<DeductionTypeSummary> summarizeByUserUserIdAndTaxYearGroupByType(@Param("userId") Long userId,
+			@Param("taxYear") Year taxYear);
+
+	// Sum and count deductions by userId, tax year and amendment status
+	@Query("SELECT new com.gov.tax.repository.projection.AmountSummary(SUM(d.amount), COUNT(d)) FROM Deduction d "
+			+ "WHERE d.user.userId = :userId AND d.taxYear = :taxYear AND d.isAmended = :isAmended")
+	AmountSummary summarizeByUserUserIdAndTaxYearAndIsAmended(@Param("userId") Long userId,
+			@Param("taxYear") Year taxYear, @Param("isAmended") int isAmended);
+
+	// Sum and count deductions for a tax year, grouped by user
+	@Query("SELECT new com.gov.tax.repository.projection.UserAmountSummary(d.user.userId, SUM(d.amount), COUNT(d)) "
+			+ "FROM Deduction d WHERE d.taxYear = :taxYear GROUP BY d.user.userId")
+	List<UserAmountSummary> summarizeByTaxYearGroupByUser(@Param("taxYear") Year taxYear);
+
+	// Sum and count deductions for a tax year for the given users, grouped by user
+	@Query("SELECT new com.gov.tax.repository.projection.UserAmountSummary(d.user.userId, SUM(d.amount), COUNT(d)) "
+			+ "FROM Deduction d WHERE d.taxYear = :taxYear AND d.user.userId IN :userIds GROUP BY d.user.userId")
+	List<UserAmountSummary> summarizeByTaxYearAndUserIdsGroupByUser(@Param("taxYear") Year taxYear,
+			@Param("userIds") Collection<Long> userIds);
+
+	// Fill the tax year of rows written before the column existed, returns the rows updated
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE deduction SET tax_year = YEAR(deduction_date) WHERE tax_year IS NULL", nativeQuery = true)
+	int backfillTaxYear();
 }
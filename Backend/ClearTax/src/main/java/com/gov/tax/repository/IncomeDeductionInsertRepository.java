@@ -0,0 +1,100 @@
+package com.gov.tax.repository;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.gov.tax.entity.Deduction;
+import com.gov.tax.entity.Income;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Inserts bulk uploaded incomes and deductions with multi-row JDBC statements.
+ * Hibernate cannot batch inserts for IDENTITY keys, and the bulk endpoints
+ * return the new IDs, so each statement inserts a chunk of rows through
+ * {@code INSERT ... OUTPUT ... SELECT ... ORDER BY}. SQL Server assigns
+ * identity values in the ORDER BY order of such an insert, so the sorted
+ * output IDs line up with the rows as given.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IncomeDeductionInsertRepository {
+
+	// SQL Server accepts at most 2100 parameters per statement
+	private static final int MAX_PARAMETERS = 2000;
+
+	private static final String INCOME_COLUMNS = "user_id, income_source, amount, income_date, is_amended, tax_year";
+	private static final String DEDUCTION_COLUMNS = "user_id, deduction_type, amount, deduction_date, is_amended, tax_year";
+	private static final int COLUMN_COUNT = 6;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Inserts new incomes, setting the generated ID and tax year on each.
+	 *
+	 * @param incomes The incomes to insert, each with its user set.
+	 * @return The same incomes, now carrying their IDs.
+	 */
+	public List<Income> insertIncomes(List<Income> incomes) {
+		List<Long> ids = insertAll("income", "income_id", INCOME_COLUMNS, incomes, income -> {
+			income.setTaxYear(Year.from(income.getIncomeDate()));
+			return new Object[] { income.getUser().getUserId(), income.getIncomeSource(), income.getAmount(),
+					income.getIncomeDate(), income.getIsAmended(), income.getTaxYear().getValue() };
+		});
+		for (int i = 0; i < incomes.size(); i++) {
+			incomes.get(i).setIncomeId(ids.get(i));
+		}
+		return incomes;
+	}
+
+	/**
+	 * Inserts new deductions, setting the generated ID and tax year on each.
+	 *
+	 * @param deductions The deductions to insert, each with its user set.
+	 * @return The same deductions, now carrying their IDs.
+	 */
+	public List<Deduction> insertDeductions(List<Deduction> deductions) {
+		List<Long> ids = insertAll("deduction", "deduction_id", DEDUCTION_COLUMNS, deductions, deduction -> {
+			deduction.setTaxYear(Year.from(deduction.getDeductionDate()));
+			return new Object[] { deduction.getUser().getUserId(), deduction.getDeductionType(),
+					deduction.getAmount(), deduction.getDeductionDate(), deduction.getIsAmended(),
+					deduction.getTaxYear().getValue() };
+		});
+		for (int i = 0; i < deductions.size(); i++) {
+			deductions.get(i).setDeductionId(ids.get(i));
+		}
+		return deductions;
+	}
+
+	/**
+	 * Inserts the rows in chunks that fit the parameter limit and returns the
+	 * generated IDs in the order of the given rows.
+	 */
+	private <T> List<Long> insertAll(String table, String idColumn, String columns, List<T> rows,
+			Function<T, Object[]> values) {
+		int chunkSize = MAX_PARAMETERS / COLUMN_COUNT;
+		List<Long> ids = new ArrayList<>(rows.size());
+		for (int from = 0; from < rows.size(); from += chunkSize) {
+			List<T> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+			List<Object> args = new ArrayList<>(chunk.size() * COLUMN_COUNT);
+			StringJoiner valueRows = new StringJoiner(", ");
+			for (int i = 0; i < chunk.size(); i++) {
+				Collections.addAll(args, values.apply(chunk.get(i)));
+				valueRows.add("(" + i + ", ?, ?, ?, ?, ?, ?)");
+			}
+			String sql = "INSERT INTO " + table + " (" + columns + ") OUTPUT INSERTED." + idColumn + " SELECT "
+					+ columns + " FROM (VALUES " + valueRows + ") AS v (ordinal, " + columns + ") ORDER BY ordinal";
+			List<Long> chunkIds = new ArrayList<>(jdbcTemplate.queryForList(sql, Long.class, args.toArray()));
+			Collections.sort(chunkIds);
+			ids.addAll(chunkIds);
+		}
+		return ids;
+	}
+}
@@ -1,30 +1,68 @@
 package com.gov.tax.repository;
 
+import java.time.Year;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.gov.tax.dto.IncomeDTO;
 import com.gov.tax.entity.Income;
+import com.gov.tax.repository.projection.AmountSummary;
+import com.gov.tax.repository.projection.UserAmountSummary;
 
+/**
+ * Year-scoped lookups filter on the stored taxYear column, an equality seek on
+ * the (user_id, tax_year, is_amended) index.
+ */
 @Repository
 public interface IncomeRepository extends JpaRepository<Income, Long> {
 	public List<Income> findByUserUserId(Long userId);
 
-	// Get incomes by userId where isAmended = 0
-	public List<Income> findByUserUserIdAndIsAmended(Long userId, int isAmended);
+	public List<Income> findByUserUserIdAndTaxYear(Long userId, Year taxYear);
 
-	// Get incomes by userId and year where isAmended = 0
-	@Query("SELECT i FROM Income i WHERE i.user.userId = :userId AND YEAR(i.incomeDate) = :year AND i.isAmended = :isAmended")
-	List<Income> findByUserUserIdAndIncomeDateYearAndIsAmended(@Param("userId") Long userId, @Param("year") int year,
-			@Param("isAmended") int isAmended);
+	// Income columns only, by userId and amendment status
+	@Query("SELECT new com.gov.tax.dto.IncomeDTO(i.incomeId, i.user.userId, i.incomeSource, i.amount, i.incomeDate, "
+			+ "i.isAmended) FROM Income i WHERE i.user.userId = :userId AND i.isAmended = :isAmended")
+	List<IncomeDTO> findDetailsByUserIdAndIsAmended(@Param("userId") Long userId, @Param("isAmended") int isAmended);
 
-	@Query("SELECT i FROM Income i WHERE i.user.userId = :userId AND YEAR(i.incomeDate) = :year")
-	public List<Income> findByUserUserIdAndIncomeDateYear(Long userId, int year);
+	// Income columns only, by userId, tax year and amendment status
+	@Query("SELECT new com.gov.tax.dto.IncomeDTO(i.incomeId, i.user.userId, i.incomeSource, i.amount, i.incomeDate, "
+			+ "i.isAmended) FROM Income i "
+			+ "WHERE i.user.userId = :userId AND i.taxYear = :taxYear AND i.isAmended = :isAmended")
+	List<IncomeDTO> findDetailsByUserIdAndTaxYearAndIsAmended(@Param("userId") Long userId,
+			@Param("taxYear") Year taxYear, @Param("isAmended") int isAmended);
 
-	@Query("DELETE FROM Income i WHERE i.user.userId = :userId AND YEAR(i.incomeDate) = :year")
-	void deleteByUserUserIdAndIncomeDateYear(Long userId, int year);
+	// Sum and count incomes by userId and tax year
+	@Query("SELECT new com.gov.tax.repository.projection.AmountSummary(SUM(i.amount), COUNT(i)) FROM Income i "
+			+ "WHERE i.user.userId = :userId AND i.taxYear = :taxYear")
+	AmountSummary summarizeByUserUserIdAndTaxYear(@Param("userId") Long userId, @Param("taxYear") Year taxYear);
 
+	// Sum and count incomes by userId, tax year and amendment status
+	@Query("SELECT new com.gov.tax.repository.projection.AmountSummary(SUM(i.amount), COUNT(i)) FROM Income i "
+			+ "WHERE i.user.userId = :userId AND i.taxYear = :taxYear AND i.isAmended = :isAmended")
+	AmountSummary summarizeByUserUserIdAndTaxYearAndIsAmended(@Param("userId") Long userId,
+			@Param("taxYear") Year taxYear, @Param("isAmended") int isAmended);
+
+	// Sum and count incomes for a tax year, grouped by user
+	@Query("SELECT new com.gov.tax.repository.projection.UserAmountSummary(i.user.userId, SUM(i.amount), COUNT(i)) "
+			+ "FROM Income i WHERE i.taxYear = :taxYear GROUP BY i.user.userId")
+	List<UserAmountSummary> summarizeByTaxYearGroupByUser(@Param("taxYear") Year taxYear);
+
+	// Sum and count incomes for a tax year for the given users, grouped by user
+	@Query("SELECT new com.gov.tax.repository.projection.UserAmountSummary(i.user.userId, SUM(i.amount), COUNT(i)) "
+			+ "FROM Income i WHERE i.taxYear = :taxYear AND i.user.userId IN :userIds GROUP BY i.user.userId")
+	List<UserAmountSummary> summarizeByTaxYearAndUserIdsGroupByUser(@Param("taxYear") Year taxYear,
+			@Param("userIds") Collection<Long> userIds);
+
+	// Fill the tax year of rows written before the column existed, returns the rows updated
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE income SET tax_year = YEAR(income_date) WHERE tax_year IS NULL", nativeQuery = true)
+	int backfillTaxYear();
 }
@@ -0,0 +1,105 @@
+package com.gov.tax.repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gov.tax.entity.TaxCalculation;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes tax calculation rows as batched JDBC statements. Hibernate cannot
+ * batch inserts for IDENTITY keys, so bulk recomputation goes through plain
+ * JDBC instead of {@code saveAll}. Updated rows are evicted from the
+ * second-level cache, which plain JDBC writes bypass, again after the
+ * transaction commits so that a read in between cannot cache the old row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaxCalculationBatchRepository {
+
+	private static final String INSERT_SQL = "INSERT INTO tax_calculation "
+			+ "(user_id, gross_income, deductions, taxable_income, tax_liability, tax_year, is_amended) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String UPDATE_SQL = "UPDATE tax_calculation "
+			+ "SET gross_income = ?, deductions = ?, taxable_income = ?, tax_liability = ? "
+			+ "WHERE tax_calculation_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final EntityManagerFactory entityManagerFactory;
+
+	@Value("${tax.calculation.batch-size:500}")
+	private int batchSize;
+
+	/**
+	 * Inserts new tax calculation rows in batches.
+	 * 
+	 * @param taxCalculations The calculations to insert, each with its user set.
+	 * @return The number of rows inserted.
+	 */
+	public int insertAll(List<TaxCalculation> taxCalculations) {
+		int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, taxCalculations, batchSize, (ps, taxCalculation) -> {
+			ps.setLong(1, taxCalculation.getUser().getUserId());
+			ps.setBigDecimal(2, taxCalculation.getGrossIncome());
+			ps.setBigDecimal(3, taxCalculation.getDeductions());
+			ps.setBigDecimal(4, taxCalculation.getTaxableIncome());
+			ps.setBigDecimal(5, taxCalculation.getTaxLiability());
+			ps.setInt(6, taxCalculation.getTaxYear().getValue());
+			ps.setInt(7, taxCalculation.getIsAmended());
+		});
+		return taxCalculations.isEmpty() ? 0 : sum(counts);
+	}
+
+	/**
+	 * Updates the amounts of existing tax calculation rows in batches.
+	 * 
+	 * @param taxCalculations The calculations to update, each with its ID set.
+	 * @return The number of rows updated.
+	 */
+	public int updateAll(List<TaxCalculation> taxCalculations) {
+		int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, taxCalculations, batchSize, (ps, taxCalculation) -> {
+			ps.setBigDecimal(1, taxCalculation.getGrossIncome());
+			ps.setBigDecimal(2, taxCalculation.getDeductions());
+			ps.setBigDecimal(3, taxCalculation.getTaxableIncome());
+			ps.setBigDecimal(4, taxCalculation.getTaxLiability());
+			ps.setLong(5, taxCalculation.getTaxCalculationId());
+		});
+		Set<Long> ids = taxCalculations.stream().map(TaxCalculation::getTaxCalculationId)
+				.collect(Collectors.toSet());
+		evict(ids);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evict(ids);
+				}
+			});
+		}
+		return taxCalculations.isEmpty() ? 0 : sum(counts);
+	}
+
+	private void evict(Set<Long> ids) {
+		ids.forEach(id -> entityManagerFactory.getCache().evict(TaxCalculation.class, id));
+	}
+
+	private int sum(int[][] counts) {
+		int total = 0;
+		for (int[] batch : counts) {
+			for (int count : batch) {
+				// drivers may report SUCCESS_NO_INFO (-2) for batched statements
+				total += count < 0 ? 1 : count;
+			}
+		}
+		return total;
+	}
+}
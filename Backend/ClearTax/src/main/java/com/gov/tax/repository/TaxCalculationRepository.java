@@ -1,13 +1,20 @@
 package com.gov.tax.repository;
 
 import java.time.Year;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.gov.tax.dto.TaxCalculationDTO;
+import com.gov.tax.dto.TaxCalculationHistoryDTO;
 import com.gov.tax.entity.TaxCalculation;
+import com.gov.tax.repository.projection.UserTaxCalculationId;
 
 @Repository
 public interface TaxCalculationRepository extends JpaRepository<TaxCalculation, Long> {
@@ -19,8 +26,42 @@ public interface TaxCalculationRepository extends JpaRepository<TaxCalculation,
 	Optional<TaxCalculation> findByUserUserIdAndTaxYearAndIsAmended(Long userId, Year taxYear,int isAmended);
 	
 
-	// get tax details
+	// Calculation columns only, by userId, taxYear and amendment status
+	@Query("SELECT new com.gov.tax.dto.TaxCalculationDTO(t.taxCalculationId, t.user.userId, t.grossIncome, "
+			+ "t.deductions, t.taxableIncome, t.taxLiability, t.taxYear, t.isAmended) FROM TaxCalculation t "
+			+ "WHERE t.user.userId = :userId AND t.taxYear = :taxYear AND t.isAmended = :isAmended")
+	Optional<TaxCalculationDTO> findDetailsByUserIdAndTaxYearAndIsAmended(@Param("userId") Long userId,
+			@Param("taxYear") Year taxYear, @Param("isAmended") int isAmended);
+
+	// Calculation columns only, every calculation of a user
+	@Query("SELECT new com.gov.tax.dto.TaxCalculationDTO(t.taxCalculationId, t.user.userId, t.grossIncome, "
+			+ "t.deductions, t.taxableIncome, t.taxLiability, t.taxYear, t.isAmended) FROM TaxCalculation t "
+			+ "WHERE t.user.userId = :userId")
+	List<TaxCalculationDTO> findDetailsByUserId(@Param("userId") Long userId);
+
+	// get tax details, loading the user and original calculation in the same query
+	@EntityGraph(attributePaths = { "user", "originalTaxCalculation" })
 	Optional<List<TaxCalculation>> findByUserUserId(Long userId);
 
+	// Full calculation history of a user, each amendment joined to its original, in one query
+	@Query("SELECT new com.gov.tax.dto.TaxCalculationHistoryDTO(t.taxCalculationId, t.taxYear, t.isAmended, "
+			+ "t.grossIncome, t.deductions, t.taxableIncome, t.taxLiability, o.taxCalculationId, o.taxLiability) "
+			+ "FROM TaxCalculation t LEFT JOIN t.originalTaxCalculation o WHERE t.user.userId = :userId "
+			+ "ORDER BY t.taxYear DESC, t.isAmended, t.taxCalculationId")
+	List<TaxCalculationHistoryDTO> findHistoryByUserId(@Param("userId") Long userId);
+
 	Optional<TaxCalculation> findByUserUserIdAndTaxYear(Long userId, Year taxYear);
+
+	// Fetch the calculation ids of every user for a tax year and amendment status
+	@Query("SELECT new com.gov.tax.repository.projection.UserTaxCalculationId(t.user.userId, t.taxCalculationId) "
+			+ "FROM TaxCalculation t WHERE t.taxYear = :taxYear AND t.isAmended = :isAmended")
+	List<UserTaxCalculationId> findIdsByTaxYearAndIsAmended(@Param("taxYear") Year taxYear,
+			@Param("isAmended") int isAmended);
+
+	// Fetch the calculation ids of the given users for a tax year and amendment status
+	@Query("SELECT new com.gov.tax.repository.projection.UserTaxCalculationId(t.user.userId, t.taxCalculationId) "
+			+ "FROM TaxCalculation t WHERE t.taxYear = :taxYear AND t.isAmended = :isAmended "
+			+ "AND t.user.userId IN :userIds")
+	List<UserTaxCalculationId> findIdsByTaxYearAndIsAmendedAndUserIds(@Param("taxYear") Year taxYear,
+			@Param("isAmended") int isAmended, @Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,64 @@
+package com.gov.tax.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.gov.tax.entity.TaxFilling;
+import com.gov.tax.entity.TaxPayment;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Inserts tax filings and their pending payments only if they are absent. The
+ * unique keys on a filing's user and tax year and on a payment's filing decide
+ * which of two concurrent inserts wins; the other sees a duplicate key, which
+ * is reported as "already present" rather than as an error. Plain JDBC is used
+ * because a failed JPA write marks the surrounding transaction rollback-only,
+ * while a failed statement here leaves it usable.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaxFillingInsertRepository {
+
+	private static final String INSERT_FILING_SQL = "INSERT INTO tax_filling "
+			+ "(user_id, filing_date, filling_status, tax_year, pdf_generated, refund_status) "
+			+ "VALUES (?, ?, ?, ?, ?, ?)";
+
+	private static final String INSERT_PAYMENT_SQL = "INSERT INTO tax_payment "
+			+ "(user_id, amount_paid, payment_status, tax_filing_id) VALUES (?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Inserts a tax filing unless the user already has one for its tax year.
+	 * 
+	 * @param taxFilling The filing to insert, with its user set.
+	 * @return true if the filing was inserted, false if one already existed.
+	 */
+	public boolean insertFilingIfAbsent(TaxFilling taxFilling) {
+		try {
+			return jdbcTemplate.update(INSERT_FILING_SQL, taxFilling.getUser().getUserId(),
+					taxFilling.getFilingDate(), taxFilling.getFillingStatus(), taxFilling.getTaxYear().getValue(),
+					taxFilling.isPdfGenerated(), taxFilling.getRefundStatus()) == 1;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Inserts the payment due on a tax filing unless the filing already has one.
+	 * 
+	 * @param taxPayment The payment to insert, with its user and filing set.
+	 * @return true if the payment was inserted, false if one already existed.
+	 */
+	public boolean insertPaymentIfAbsent(TaxPayment taxPayment) {
+		try {
+			return jdbcTemplate.update(INSERT_PAYMENT_SQL, taxPayment.getUser().getUserId(),
+					taxPayment.getAmountPaid(), taxPayment.getPaymentStatus().getLabel(),
+					taxPayment.getTaxFiling().getTaxFilingId()) == 1;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+}
@@ -1,14 +1,19 @@
 package com.gov.tax.repository;
 
+import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.gov.tax.dto.TaxFillingHistoryDTO;
 import com.gov.tax.entity.TaxFilling;
+import com.gov.tax.repository.projection.FilingSubmission;
 
 @Repository
 public interface TaxFillingRepository extends JpaRepository<TaxFilling, Integer> {
@@ -19,11 +24,21 @@ public interface TaxFillingRepository extends JpaRepository<TaxFilling, Integer>
             "FROM TaxFilling t WHERE t.user.userId = :userId AND t.taxYear = :taxYear AND t.pdfGenerated = true")
      boolean isPdfGeneratedForUserAndYear(Long userId, Year taxYear);
 
-     @Query("UPDATE TaxFilling t SET t.pdfGenerated = true WHERE t.user.userId = :userId AND t.taxYear = :taxYear")
-     void updatePdfGeneratedStatus(Long userId, Year taxYear, boolean status);
+	// Filing columns only, every filing of a user
+	@Query("SELECT new com.gov.tax.dto.TaxFillingHistoryDTO(t.taxFilingId, t.taxYear, t.filingDate, t.fillingStatus, "
+			+ "t.refundStatus, t.pdfGenerated) FROM TaxFilling t WHERE t.user.userId = :userId")
+	List<TaxFillingHistoryDTO> findHistoryByUserId(@Param("userId") Long userId);
 
-     @Query("UPDATE TaxFilling t SET t.fillingStatus = :status WHERE t.user.userId = :userId AND t.taxYear = :taxYear")
-     void updateFilingStatus(Long userId, Year taxYear, String status);
+	// Filing by userId and tax year with the liability of the year's original tax calculation
+	@Query("SELECT new com.gov.tax.repository.projection.FilingSubmission(t, c.taxLiability) FROM TaxFilling t "
+			+ "LEFT JOIN TaxCalculation c ON c.user = t.user AND c.taxYear = t.taxYear AND c.isAmended = 0 "
+			+ "WHERE t.user.userId = :userId AND t.taxYear = :taxYear")
+	Optional<FilingSubmission> findSubmissionByUserIdAndTaxYear(@Param("userId") Long userId,
+			@Param("taxYear") Year taxYear);
 
-	List<TaxFilling> findAllByUserUserId(Long userId);
+	// Mark a filing as filed unless it already is, returns the rows updated
+	@Modifying
+	@Query("UPDATE TaxFilling t SET t.fillingStatus = 'Filled', t.filingDate = :filingDate, "
+			+ "t.version = t.version + 1 WHERE t.taxFilingId = :taxFilingId AND t.fillingStatus <> 'Filled'")
+	int markFiled(@Param("taxFilingId") Long taxFilingId, @Param("filingDate") LocalDate filingDate);
  }
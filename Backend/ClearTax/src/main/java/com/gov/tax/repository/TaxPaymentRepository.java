@@ -1,11 +1,18 @@
 package com.gov.tax.repository;
 
+import com.gov.tax.dto.TaxPaymentDTO;
+import com.gov.tax.entity.PaymentStatus;
 import com.gov.tax.entity.TaxPayment;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,9 +21,27 @@ public interface TaxPaymentRepository extends JpaRepository<TaxPayment, Integer>
 
 	TaxPayment findByTransactionId(String orderId);
 
-	List<TaxPayment> findAllByUserUserId(Long userId);
+	// First payment of a user with the given status, oldest first
+	Optional<TaxPayment> findFirstByUserUserIdAndPaymentStatusOrderByTaxPaymentIdAsc(Long userId,
+			PaymentStatus paymentStatus);
 
+	// Payment with the tax calculation it settles, both printed on the receipt
+	@EntityGraph("TaxPayment.taxCalculation")
 	TaxPayment findByUserUserIdAndTransactionId(Long userId, String transactionId);
 
 	TaxPayment findByUserUserIdAndAmountPaid(Long userId, BigDecimal amountPaid);
+
+	// Payment columns only, a page of a user's payments with the given status, oldest first
+	@Query("SELECT new com.gov.tax.dto.TaxPaymentDTO(t.taxPaymentId, t.user.userId, t.paymentDate, t.amountPaid, "
+			+ "t.paymentStatus, t.transactionId, c.taxCalculationId) FROM TaxPayment t LEFT JOIN t.taxCalculation c "
+			+ "WHERE t.user.userId = :userId AND t.paymentStatus = :paymentStatus ORDER BY t.taxPaymentId")
+	List<TaxPaymentDTO> findDetailsByUserIdAndPaymentStatus(@Param("userId") Long userId,
+			@Param("paymentStatus") PaymentStatus paymentStatus, Pageable pageable);
+
+	// Payment columns only, by userId and transactionId
+	@Query("SELECT new com.gov.tax.dto.TaxPaymentDTO(t.taxPaymentId, t.user.userId, t.paymentDate, t.amountPaid, "
+			+ "t.paymentStatus, t.transactionId, c.taxCalculationId) FROM TaxPayment t LEFT JOIN t.taxCalculation c "
+			+ "WHERE t.user.userId = :userId AND t.transactionId = :transactionId")
+	Optional<TaxPaymentDTO> findDetailsByUserIdAndTransactionId(@Param("userId") Long userId,
+			@Param("transactionId") String transactionId);
 }
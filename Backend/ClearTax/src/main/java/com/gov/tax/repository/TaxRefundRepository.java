@@ -1,12 +1,15 @@
 package com.gov.tax.repository;
 
 import com.gov.tax.entity.TaxRefund;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TaxRefundRepository extends JpaRepository<TaxRefund, Integer> {
 
+	// Refund with its user, who is named on the refund certificate
+	@EntityGraph("TaxRefund.user")
 	TaxRefund findByUserUserId(Long userId);
 
 }
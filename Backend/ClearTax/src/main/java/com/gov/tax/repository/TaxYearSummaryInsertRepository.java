@@ -0,0 +1,44 @@
+package com.gov.tax.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.gov.tax.entity.TaxYearSummary;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Inserts a tax year summary only if the user has none for its tax year and
+ * amendment status. Two first writes for the same year race to insert the row;
+ * the unique key lets one win and the other sees a duplicate key, reported as
+ * "already present". Plain JDBC keeps the surrounding transaction usable after
+ * the failed statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaxYearSummaryInsertRepository {
+
+	private static final String INSERT_SQL = "INSERT INTO tax_year_summary "
+			+ "(user_id, tax_year, is_amended, gross_income, income_count, total_deductions, deduction_count) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Inserts a summary unless one already exists for its user, tax year and
+	 * amendment status.
+	 * 
+	 * @param summary The summary to insert, with its user set.
+	 * @return true if the summary was inserted, false if one already existed.
+	 */
+	public boolean insertIfAbsent(TaxYearSummary summary) {
+		try {
+			return jdbcTemplate.update(INSERT_SQL, summary.getUser().getUserId(), summary.getTaxYear().getValue(),
+					summary.getIsAmended(), summary.getGrossIncome(), summary.getIncomeCount(),
+					summary.getTotalDeductions(), summary.getDeductionCount()) == 1;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.gov.tax.repository;
+
+import java.math.BigDecimal;
+import java.time.Year;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.gov.tax.entity.TaxYearSummary;
+
+@Repository
+public interface TaxYearSummaryRepository extends JpaRepository<TaxYearSummary, Long> {
+
+	// Fetch the summaries of a user for a tax year, one per amendment status
+	List<TaxYearSummary> findByUserUserIdAndTaxYear(Long userId, Year taxYear);
+
+	// Apply an income change to an existing summary, returns the rows updated
+	@Modifying
+	@Query("UPDATE TaxYearSummary s SET s.grossIncome = s.grossIncome + :amount, s.incomeCount = s.incomeCount + :count "
+			+ "WHERE s.user.userId = :userId AND s.taxYear = :taxYear AND s.isAmended = :isAmended")
+	int addIncome(@Param("userId") Long userId, @Param("taxYear") Year taxYear, @Param("isAmended") int isAmended,
+			@Param("amount") BigDecimal amount, @Param("count") long count);
+
+	// Apply a deduction change to an existing summary, returns the rows updated
+	@Modifying
+	@Query("UPDATE TaxYearSummary s SET s.totalDeductions = s.totalDeductions + :amount, "
+			+ "s.deductionCount = s.deductionCount + :count "
+			+ "WHERE s.user.userId = :userId AND s.taxYear = :taxYear AND s.isAmended = :isAmended")
+	int addDeduction(@Param("userId") Long userId, @Param("taxYear") Year taxYear, @Param("isAmended") int isAmended,
+			@Param("amount") BigDecimal amount, @Param("count") long count);
+
+	// Reset the income totals of a user for a tax year after all incomes are removed
+	@Modifying
+	@Query("UPDATE TaxYearSummary s SET s.grossIncome = 0, s.incomeCount = 0 "
+			+ "WHERE s.user.userId = :userId AND s.taxYear = :taxYear")
+	int clearIncome(@Param("userId") Long userId, @Param("taxYear") Year taxYear);
+}
@@ -1,10 +1,16 @@
 package com.gov.tax.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.gov.tax.dto.UserDTO;
 import com.gov.tax.entity.User;
 
 @Repository
@@ -13,4 +19,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByGovernmentId(String governmentId);
     Optional<User> findByEmail(String email);
 	int countByUserRole(String string);
+
+	// Keyset page of user IDs after the given ID, so batch jobs never use OFFSET
+	@Query("SELECT u.userId FROM User u WHERE u.userId > :afterUserId ORDER BY u.userId")
+	List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+	// Optional role and [createdFrom, createdTo) filters shared by the user listings
+	String USER_LISTING = "SELECT new com.gov.tax.dto.UserDTO(u.userId, u.name, u.email, u.governmentId, u.userRole) "
+			+ "FROM User u WHERE (:userRole IS NULL OR u.userRole = :userRole) "
+			+ "AND (:createdFrom IS NULL OR u.createdDate >= :createdFrom) "
+			+ "AND (:createdTo IS NULL OR u.createdDate < :createdTo) ";
+
+	// Keyset page of users after the given ID
+	@Query(USER_LISTING + "AND u.userId > :afterUserId ORDER BY u.userId")
+	List<UserDTO> findUsersAfter(@Param("afterUserId") Long afterUserId, @Param("userRole") String userRole,
+			@Param("createdFrom") LocalDateTime createdFrom, @Param("createdTo") LocalDateTime createdTo,
+			Pageable pageable);
 }
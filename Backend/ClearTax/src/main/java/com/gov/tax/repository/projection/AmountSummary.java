@@ -0,0 +1,24 @@
+package com.gov.tax.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregate of a set of amount rows: their total and how many there are.
+ * 
+ * @param total The sum of the amounts, zero when there are no rows.
+ * @param count The number of rows.
+ */
+public record AmountSummary(BigDecimal total, Long count) {
+
+	public AmountSummary {
+		total = total != null ? total : BigDecimal.ZERO;
+		count = count != null ? count : 0L;
+	}
+
+	/**
+	 * @return true if at least one row was aggregated.
+	 */
+	public boolean hasEntries() {
+		return count > 0;
+	}
+}
@@ -0,0 +1,13 @@
+package com.gov.tax.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregate of a user's deductions of one type.
+ * 
+ * @param deductionType The deduction type.
+ * @param total         The sum of the deductions of that type.
+ * @param count         The number of deductions of that type.
+ */
+public record DeductionTypeSummary(String deductionType, BigDecimal total, Long count) {
+}
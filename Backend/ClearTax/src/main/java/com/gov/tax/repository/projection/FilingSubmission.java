@@ -0,0 +1,16 @@
+package com.gov.tax.repository.projection;
+
+import java.math.BigDecimal;
+
+import com.gov.tax.entity.TaxFilling;
+
+/**
+ * A tax filing together with what its submission needs from the tax
+ * calculation of the same year.
+ * 
+ * @param filing       The tax filing.
+ * @param taxLiability The liability of the year's original tax calculation, or
+ *                     null if the year has not been calculated.
+ */
+public record FilingSubmission(TaxFilling filing, BigDecimal taxLiability) {
+}
@@ -0,0 +1,20 @@
+package com.gov.tax.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Per-user aggregate of a set of amount rows.
+ * 
+ * @param userId The ID of the user the rows belong to.
+ * @param total  The sum of the user's amounts.
+ * @param count  The number of rows for the user.
+ */
+public record UserAmountSummary(Long userId, BigDecimal total, Long count) {
+
+	/**
+	 * @return The aggregate without the user ID.
+	 */
+	public AmountSummary toAmountSummary() {
+		return new AmountSummary(total, count);
+	}
+}
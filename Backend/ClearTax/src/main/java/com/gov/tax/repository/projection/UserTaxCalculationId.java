@@ -0,0 +1,10 @@
+package com.gov.tax.repository.projection;
+
+/**
+ * Identifies the tax calculation row of a user.
+ * 
+ * @param userId           The ID of the user.
+ * @param taxCalculationId The ID of the user's tax calculation.
+ */
+public record UserTaxCalculationId(Long userId, Long taxCalculationId) {
+}
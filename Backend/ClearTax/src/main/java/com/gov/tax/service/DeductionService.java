@@ -10,7 +10,7 @@ public interface DeductionService {
 	List<Deduction> addMultipleDeductions(List<DeductionDTO> deductionDtoList);
 	Deduction updateDeduction(Long deductionId, DeductionDTO deductionDto);
 	String deleteDeduction(Long deductionId);
-	List<Deduction> getDeductionsByUserId(Long userId, int isAmended);
-	List<Deduction> getDeductionsByYearAndUserId(Long userId, int year, int isAmended);
+	List<DeductionDTO> getDeductionsByUserId(Long userId, int isAmended);
+	List<DeductionDTO> getDeductionsByYearAndUserId(Long userId, int year, int isAmended);
 	
 }
@@ -0,0 +1,12 @@
+package com.gov.tax.service;
+
+import java.util.Collection;
+
+public interface TaxCalculationCacheService {
+	String TAX_DETAILS_CACHE = "taxDetails";
+	String TAX_HISTORY_CACHE = "taxHistory";
+
+	void evictUser(Long userId);
+
+	void evictUsers(Collection<Long> userIds);
+}
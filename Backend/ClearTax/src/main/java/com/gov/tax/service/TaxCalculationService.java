@@ -1,9 +1,17 @@
 package com.gov.tax.service;
 
 import java.math.BigDecimal;
+import java.time.Year;
 import java.util.List;
+import java.util.Set;
 
 import com.gov.tax.dto.AmendmentRequestDTO;
+import com.gov.tax.dto.BulkTaxCalculationDTO;
+import com.gov.tax.dto.RegimeComparisonDTO;
+import com.gov.tax.dto.TaxCalculationDTO;
+import com.gov.tax.dto.TaxCalculationHistoryDTO;
+import com.gov.tax.dto.TaxSimulationDTO;
+import com.gov.tax.dto.TaxSimulationRequestDTO;
 import com.gov.tax.entity.TaxCalculation;
 
 public interface TaxCalculationService {
@@ -15,13 +23,23 @@ public interface TaxCalculationService {
 
 	BigDecimal calculateTotalDeductions(Long userId, int year);
 
-	List<TaxCalculation> getTaxHistory(Long userId);
+	List<TaxCalculationDTO> getTaxHistory(Long userId);
+
+	List<TaxCalculationHistoryDTO> getAmendmentHistory(Long userId);
 
 	TaxCalculation calculateAndUpdateTaxLiability(Long userId, int year);
 
 	BigDecimal slabBasedTaxCalculation(BigDecimal taxableIncome);
 
+	BigDecimal slabBasedTaxCalculation(BigDecimal taxableIncome, Year taxYear);
+
 	AmendmentRequestDTO amendTaxCalculation(Long userId, AmendmentRequestDTO newCalculationDetails);
 
-	TaxCalculation getTaxDetails(Long userId, int year, int isAmended);
+	TaxCalculationDTO getTaxDetails(Long userId, int year, int isAmended);
+
+	BulkTaxCalculationDTO calculateTaxLiabilityInBulk(int year, Set<Long> userIds);
+
+	TaxSimulationDTO simulateTaxLiability(TaxSimulationRequestDTO simulationRequest);
+
+	RegimeComparisonDTO compareTaxRegimes(Long userId, int year);
 }
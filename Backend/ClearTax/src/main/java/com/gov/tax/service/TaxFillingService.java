@@ -5,7 +5,7 @@ import java.time.Year;
 import java.util.List;
 
 import com.gov.tax.dto.TaxFillingDTO;
-import com.gov.tax.entity.TaxFilling;
+import com.gov.tax.dto.TaxFillingHistoryDTO;
 import com.itextpdf.text.DocumentException;
 
 public interface TaxFillingService {
@@ -22,6 +22,6 @@ public interface TaxFillingService {
 
 	byte[] createTaxFillingPdf(TaxFillingDTO taxFillingDTO) throws IOException, DocumentException;
 
-	List<TaxFilling> getTaxFillingHistory(Long userId);
+	List<TaxFillingHistoryDTO> getTaxFillingHistory(Long userId);
 
 }
@@ -4,19 +4,20 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
 
+import com.gov.tax.dto.TaxPaymentDTO;
 import com.gov.tax.entity.TaxPayment;
 import com.itextpdf.text.DocumentException;
 import com.razorpay.RazorpayException;
 
 public interface TaxPaymentService {
 
-	TaxPayment getTaxPaymentByUserId(Long userId);
+	TaxPaymentDTO getTaxPaymentByUserId(Long userId);
 
-	List<TaxPayment> getAllTaxPaymentByUserId(Long userId);
+	List<TaxPaymentDTO> getAllTaxPaymentByUserId(Long userId, int page, int size);
 
 	String verifyPayment(String orderId, String paymentId, String razorpaySignature) throws RazorpayException;
 
-	TaxPayment getTaxPaymentByUserIdAndTransactionId(Long userId, String transactionId);
+	TaxPaymentDTO getTaxPaymentByUserIdAndTransactionId(Long userId, String transactionId);
 
 	byte[] downloadReceipt(Long userId, String transactionId) throws DocumentException, IOException;
 
@@ -0,0 +1,9 @@
+package com.gov.tax.service;
+
+import com.gov.tax.dto.TaxRecalculationStatusDTO;
+
+public interface TaxRecalculationService {
+	TaxRecalculationStatusDTO startRecalculation(int year);
+
+	TaxRecalculationStatusDTO getStatus();
+}
@@ -0,0 +1,16 @@
+package com.gov.tax.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.gov.tax.dto.TaxYearTotalsDTO;
+
+public interface TaxYearSummaryService {
+	void recordIncomeChange(Long userId, LocalDate incomeDate, int isAmended, BigDecimal amount, long count);
+
+	void recordDeductionChange(Long userId, LocalDate deductionDate, int isAmended, BigDecimal amount, long count);
+
+	void clearIncomes(Long userId, int year);
+
+	TaxYearTotalsDTO getTotals(Long userId, int year);
+}
@@ -1,20 +1,28 @@
 package com.gov.tax.service;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
 
 import com.gov.tax.dto.RegisterUserDTO;
 import com.gov.tax.dto.UpdateUserDTO;
 import com.gov.tax.dto.UserDTO;
+import com.gov.tax.dto.UserPageDTO;
+import com.gov.tax.entity.User;
 
 public interface UserService {
 
     UserDTO getUserById(Long userId);
 
+    User getUserReference(Long userId);
+
     UserDTO createUser(RegisterUserDTO registerUserDTO);
 
     UserDTO registerUser(RegisterUserDTO registerUserDTO);
 
-    List<UserDTO> getAllUsers();
+    UserPageDTO getUsers(Long afterUserId, int size, String userRole, LocalDateTime createdFrom,
+            LocalDateTime createdTo);
+
+    void forEachUser(String userRole, LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<UserDTO> action);
 
     UserDTO updateUserProfile(String email, UpdateUserDTO updateUserDTO);
 
@@ -69,7 +69,7 @@ public class AuthServiceImpl implements AuthService {
 		}
 
 		return LoginResponseDTO.builder().email(user.getEmail()).name(user.getName()).role(user.getUserRole())
-				.token(jwtTokenUtil.generateToken(user.getEmail())).build();
+				.token(jwtTokenUtil.generateToken(user.getEmail(), user.getUserRole())).build();
 	}
 
 	/**
@@ -1,17 +1,29 @@
 package com.gov.tax.service.impl;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Year;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.gov.tax.dto.DeductionDTO;
 import com.gov.tax.entity.Deduction;
 import com.gov.tax.entity.User;
 import com.gov.tax.exception.ResourceNotFoundException;
 import com.gov.tax.repository.DeductionRepository;
+import com.gov.tax.repository.IncomeDeductionInsertRepository;
 import com.gov.tax.repository.UserRepository;
 import com.gov.tax.service.DeductionService;
+import com.gov.tax.service.TaxCalculationCacheService;
+import com.gov.tax.service.TaxYearSummaryService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,7 +32,10 @@ import lombok.RequiredArgsConstructor;
 public class DeductionServiceImpl implements DeductionService {
 
 	private final DeductionRepository deductionRepository;
+	private final IncomeDeductionInsertRepository incomeDeductionInsertRepository;
 	private final UserRepository userRepository;
+	private final TaxYearSummaryService taxYearSummaryService;
+	private final TaxCalculationCacheService taxCalculationCacheService;
 
 	/**
 	 * Adds multiple deductions for users.
@@ -28,24 +43,27 @@ public class DeductionServiceImpl implements DeductionService {
 	 * @param deductionDtoList - List of DeductionDTO containing deduction details.
 	 * @return List of saved Deduction entities.
 	 */
+	@Transactional
 	@Override
 	public List<Deduction> addMultipleDeductions(List<DeductionDTO> deductionDtoList) {
+		// Resolve each distinct user once instead of once per deduction
+		Map<Long, User> users = findUsers(
+				deductionDtoList.stream().map(DeductionDTO::getUserId).collect(Collectors.toSet()));
 		List<Deduction> deductions = new ArrayList<>();
 		for (DeductionDTO deductionDto : deductionDtoList) {
-			// Fetch the user by userId or throw an exception if not found
-			User user = userRepository.findById(deductionDto.getUserId())
-					.orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
 			// Create a Deduction entity from the DTO
-			Deduction deduction = Deduction.builder().user(user).deductionType(deductionDto.getDeductionType())
-					.amount(deductionDto.getAmount()).deductionDate(deductionDto.getDeductionDate())
-					.isAmended(deductionDto.getIsAmended()).build();
+			Deduction deduction = Deduction.builder().user(users.get(deductionDto.getUserId()))
+					.deductionType(deductionDto.getDeductionType()).amount(deductionDto.getAmount())
+					.deductionDate(deductionDto.getDeductionDate()).isAmended(deductionDto.getIsAmended()).build();
 
 			// Add to the deductions list
 			deductions.add(deduction);
 		}
-		// Save all deductions to the database
-		return deductionRepository.saveAll(deductions);
+		// Save all deductions to the database with multi-row inserts
+		List<Deduction> savedDeductions = incomeDeductionInsertRepository.insertDeductions(deductions);
+		recordDeductions(savedDeductions);
+		taxCalculationCacheService.evictUsers(users.keySet());
+		return savedDeductions;
 	}
 
 	/**
@@ -55,6 +73,7 @@ public class DeductionServiceImpl implements DeductionService {
 	 * @param deductionDto - DeductionDTO containing updated deduction details.
 	 * @return The updated Deduction entity.
 	 */
+	@Transactional
 	@Override
 	public Deduction updateDeduction(Long deductionId, DeductionDTO deductionDto) {
 		// Fetch the deduction by ID or throw an exception if not found
@@ -62,12 +81,24 @@ public class DeductionServiceImpl implements DeductionService {
 				.orElseThrow(() -> new ResourceNotFoundException("Deduction not found"));
 
 		// Update deduction details
+		BigDecimal previousAmount = existingDeduction.getAmount();
+		LocalDate previousDate = existingDeduction.getDeductionDate();
 		existingDeduction.setDeductionType(deductionDto.getDeductionType());
 		existingDeduction.setAmount(deductionDto.getAmount());
 		existingDeduction.setDeductionDate(deductionDto.getDeductionDate());
 
-		// Save and return the updated deduction
-		return deductionRepository.save(existingDeduction);
+		// Save the deduction and move its amount between the yearly totals, one net change per year
+		Deduction savedDeduction = deductionRepository.save(existingDeduction);
+		if (Year.from(previousDate).equals(Year.from(existingDeduction.getDeductionDate()))) {
+			taxYearSummaryService.recordDeductionChange(existingDeduction.getUser().getUserId(), previousDate,
+					existingDeduction.getIsAmended(), existingDeduction.getAmount().subtract(previousAmount), 0);
+		} else {
+			taxYearSummaryService.recordDeductionChange(existingDeduction.getUser().getUserId(), previousDate,
+					existingDeduction.getIsAmended(), previousAmount.negate(), -1);
+			recordDeduction(existingDeduction, 1);
+		}
+		taxCalculationCacheService.evictUser(existingDeduction.getUser().getUserId());
+		return savedDeduction;
 	}
 
 	/**
@@ -76,14 +107,16 @@ public class DeductionServiceImpl implements DeductionService {
 	 * @param deductionId - ID of the deduction to be deleted.
 	 * @return Success message confirming deletion.
 	 */
+	@Transactional
 	@Override
 	public String deleteDeduction(Long deductionId) {
-		// Check if the deduction exists
-		if (!deductionRepository.existsById(deductionId)) {
-			throw new ResourceNotFoundException("Deduction not found");
-		}
+		// Fetch the deduction or throw an exception if not found
+		Deduction deduction = deductionRepository.findById(deductionId)
+				.orElseThrow(() -> new ResourceNotFoundException("Deduction not found"));
 		// Delete the deduction
-		deductionRepository.deleteById(deductionId);
+		deductionRepository.delete(deduction);
+		recordDeduction(deduction, -1);
+		taxCalculationCacheService.evictUser(deduction.getUser().getUserId());
 		return "Deduction Deleted ...!";
 	}
 
@@ -95,9 +128,9 @@ public class DeductionServiceImpl implements DeductionService {
 	 * @return List of deductions for the user.
 	 */
 	@Override
-	public List<Deduction> getDeductionsByUserId(Long userId, int isAmended) {
+	public List<DeductionDTO> getDeductionsByUserId(Long userId, int isAmended) {
 		// Fetch deductions based on user ID and amendment status
-		List<Deduction> deductions = deductionRepository.findByUserUserIdAndIsAmended(userId, isAmended);
+		List<DeductionDTO> deductions = deductionRepository.findDetailsByUserIdAndIsAmended(userId, isAmended);
 		if (deductions.isEmpty()) {
 			throw new ResourceNotFoundException("No Deductions Found");
 		}
@@ -114,13 +147,56 @@ public class DeductionServiceImpl implements DeductionService {
 	 * @return List of deductions for the user in the specified year.
 	 */
 	@Override
-	public List<Deduction> getDeductionsByYearAndUserId(Long userId, int year, int isAmended) {
+	public List<DeductionDTO> getDeductionsByYearAndUserId(Long userId, int year, int isAmended) {
 		// Fetch deductions based on user ID, year, and amendment status
-		List<Deduction> deductions = deductionRepository.findByUserUserIdAndDeductionDateYearAndIsAmended(userId, year,
-				isAmended);
+		List<DeductionDTO> deductions = deductionRepository.findDetailsByUserIdAndTaxYearAndIsAmended(userId,
+				Year.of(year), isAmended);
 		if (deductions.isEmpty()) {
 			throw new ResourceNotFoundException("No Deductions Found");
 		}
 		return deductions;
 	}
+
+	/**
+	 * Adds or removes a deduction from the user's yearly totals.
+	 * 
+	 * @param deduction - The deduction that was saved or deleted.
+	 * @param sign      - 1 when the deduction was saved, -1 when it was deleted.
+	 */
+	private void recordDeduction(Deduction deduction, int sign) {
+		BigDecimal amount = sign < 0 ? deduction.getAmount().negate() : deduction.getAmount();
+		taxYearSummaryService.recordDeductionChange(deduction.getUser().getUserId(), deduction.getDeductionDate(),
+				deduction.getIsAmended(), amount, sign);
+	}
+
+	/**
+	 * Applies newly added deductions to the yearly totals with one update per
+	 * user, tax year and amendment status rather than one per deduction.
+	 */
+	private void recordDeductions(List<Deduction> deductions) {
+		Map<List<Object>, List<Deduction>> groups = deductions.stream()
+				.collect(Collectors.groupingBy(deduction -> List.of(deduction.getUser().getUserId(),
+						Year.from(deduction.getDeductionDate()), deduction.getIsAmended()), LinkedHashMap::new,
+						Collectors.toList()));
+		groups.values().forEach(group -> {
+			Deduction first = group.get(0);
+			BigDecimal amount = group.stream().map(Deduction::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+			taxYearSummaryService.recordDeductionChange(first.getUser().getUserId(), first.getDeductionDate(),
+					first.getIsAmended(), amount, group.size());
+		});
+	}
+
+	/**
+	 * Loads each of the given users once.
+	 * 
+	 * @throws ResourceNotFoundException if any of the users does not exist.
+	 */
+	private Map<Long, User> findUsers(Set<Long> userIds) {
+		Map<Long, User> users = userRepository.findAllById(userIds).stream()
+				.collect(Collectors.toMap(User::getUserId, Function.identity()));
+		if (users.size() != userIds.size()) {
+			throw new ResourceNotFoundException("User not found");
+		}
+		return users;
+	}
 }
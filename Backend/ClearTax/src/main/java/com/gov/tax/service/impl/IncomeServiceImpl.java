@@ -1,19 +1,35 @@
 package com.gov.tax.service.impl;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.Year;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.gov.tax.dto.BulkIncomeUpdateDTO;
 import com.gov.tax.dto.IncomeDTO;
 import com.gov.tax.entity.Income;
 import com.gov.tax.entity.User;
+import com.gov.tax.exception.InvalidRequestException;
 import com.gov.tax.exception.ResourceNotFoundException;
+import com.gov.tax.repository.IncomeDeductionInsertRepository;
 import com.gov.tax.repository.IncomeRepository;
 import com.gov.tax.repository.UserRepository;
 import com.gov.tax.service.IncomeService;
+import com.gov.tax.service.TaxCalculationCacheService;
+import com.gov.tax.service.TaxYearSummaryService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,7 +38,10 @@ import lombok.RequiredArgsConstructor;
 public class IncomeServiceImpl implements IncomeService {
 
 	private final IncomeRepository incomeRepository;
+	private final IncomeDeductionInsertRepository incomeDeductionInsertRepository;
 	private final UserRepository userRepository;
+	private final TaxYearSummaryService taxYearSummaryService;
+	private final TaxCalculationCacheService taxCalculationCacheService;
 
 	/**
 	 * Adds multiple incomes for users.
@@ -30,23 +49,28 @@ public class IncomeServiceImpl implements IncomeService {
 	 * @param incomeDtoList - List of IncomeDTO containing income details.
 	 * @return List of saved Income entities.
 	 */
+	@Transactional
 	@Override
 	public List<Income> addMultipleIncomes(List<IncomeDTO> incomeDtoList) {
+		// Resolve each distinct user once instead of once per income
+		Map<Long, User> users = findUsers(
+				incomeDtoList.stream().map(IncomeDTO::getUserId).collect(Collectors.toSet()));
 		List<Income> incomes = new ArrayList<>();
 
-		// Loop through the income list and save each income
+		// Loop through the income list and build each income
 		for (IncomeDTO incomeDto : incomeDtoList) {
-			User user = userRepository.findById(incomeDto.getUserId())
-					.orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
 			// Create an Income entity from the DTO
-			Income income = Income.builder().user(user).incomeSource(incomeDto.getIncomeSource())
-					.amount(incomeDto.getAmount()).incomeDate(incomeDto.getIncomeDate())
-					.isAmended(incomeDto.getIsAmended()).build();
+			Income income = Income.builder().user(users.get(incomeDto.getUserId()))
+					.incomeSource(incomeDto.getIncomeSource()).amount(incomeDto.getAmount())
+					.incomeDate(incomeDto.getIncomeDate()).isAmended(incomeDto.getIsAmended()).build();
 
 			incomes.add(income);
 		}
-		return incomeRepository.saveAll(incomes);
+		// Multi-row inserts, since Hibernate cannot batch inserts with IDENTITY keys
+		List<Income> savedIncomes = incomeDeductionInsertRepository.insertIncomes(incomes);
+		recordIncomes(List.of(), savedIncomes);
+		taxCalculationCacheService.evictUsers(users.keySet());
+		return savedIncomes;
 	}
 
 	/**
@@ -56,6 +80,7 @@ public class IncomeServiceImpl implements IncomeService {
 	 * @param income   - Income entity containing updated income details.
 	 * @return The updated Income entity.
 	 */
+	@Transactional
 	@Override
 	public Income updateIncome(Long incomeId, Income income) {
 		// Fetch the income by ID or throw an exception if not found
@@ -67,12 +92,24 @@ public class IncomeServiceImpl implements IncomeService {
 
 		// Update income details
 		Income updatedIncome = existingIncome.get();
+		BigDecimal previousAmount = updatedIncome.getAmount();
+		LocalDate previousDate = updatedIncome.getIncomeDate();
 		updatedIncome.setIncomeSource(income.getIncomeSource());
 		updatedIncome.setAmount(income.getAmount());
 		updatedIncome.setIncomeDate(income.getIncomeDate());
 
-		// Save and return the updated income
-		return incomeRepository.save(updatedIncome);
+		// Save the income and move its amount between the yearly totals, one net change per year
+		Income savedIncome = incomeRepository.save(updatedIncome);
+		if (Year.from(previousDate).equals(Year.from(updatedIncome.getIncomeDate()))) {
+			taxYearSummaryService.recordIncomeChange(updatedIncome.getUser().getUserId(), previousDate,
+					updatedIncome.getIsAmended(), updatedIncome.getAmount().subtract(previousAmount), 0);
+		} else {
+			taxYearSummaryService.recordIncomeChange(updatedIncome.getUser().getUserId(), previousDate,
+					updatedIncome.getIsAmended(), previousAmount.negate(), -1);
+			recordIncome(updatedIncome, 1);
+		}
+		taxCalculationCacheService.evictUser(updatedIncome.getUser().getUserId());
+		return savedIncome;
 	}
 
 	/**
@@ -81,14 +118,16 @@ public class IncomeServiceImpl implements IncomeService {
 	 * @param incomeId - ID of the income to be deleted.
 	 * @return Success message confirming deletion.
 	 */
+	@Transactional
 	@Override
 	public String deleteIncome(Long incomeId) {
-		// Check if the income exists
-		if (!incomeRepository.existsById(incomeId)) {
-			throw new ResourceNotFoundException("Income not found");
-		}
+		// Fetch the income or throw an exception if not found
+		Income income = incomeRepository.findById(incomeId)
+				.orElseThrow(() -> new ResourceNotFoundException("Income not found"));
 		// Delete the income
-		incomeRepository.deleteById(incomeId);
+		incomeRepository.delete(income);
+		recordIncome(income, -1);
+		taxCalculationCacheService.evictUser(income.getUser().getUserId());
 		return "Income Deleted Successfully..!";
 	}
 
@@ -100,9 +139,9 @@ public class IncomeServiceImpl implements IncomeService {
 	 * @return List of incomes for the user.
 	 */
 	@Override
-	public List<Income> getIncomesByUserId(Long userId, int isAmended) {
+	public List<IncomeDTO> getIncomesByUserId(Long userId, int isAmended) {
 		// Fetch incomes based on user ID and amendment status
-		return incomeRepository.findByUserUserIdAndIsAmended(userId, isAmended);
+		return incomeRepository.findDetailsByUserIdAndIsAmended(userId, isAmended);
 	}
 
 	/**
@@ -115,39 +154,82 @@ public class IncomeServiceImpl implements IncomeService {
 	 * @return List of incomes for the user in the specified year.
 	 */
 	@Override
-	public List<Income> getIncomesByYearAndUserId(Long userId, int year, int isAmended) {
+	public List<IncomeDTO> getIncomesByYearAndUserId(Long userId, int year, int isAmended) {
 		// Fetch incomes based on user ID, year, and amendment status
-		return incomeRepository.findByUserUserIdAndIncomeDateYearAndIsAmended(userId, year, isAmended);
+		return incomeRepository.findDetailsByUserIdAndTaxYearAndIsAmended(userId, Year.of(year), isAmended);
 	}
 
 	/**
-	 * Updates income records for a user for the current year.
+	 * Replaces the income records of a user for the current year with the
+	 * submitted list. Submitted incomes are matched to stored ones by ID; only
+	 * new, changed and missing rows are written, as multi-row inserts, batched
+	 * updates and a single delete.
 	 * 
 	 * @param userId         - ID of the user whose income records need to be
 	 *                       updated.
 	 * @param updatedIncomes - List of IncomeDTO containing updated income details.
-	 * @return Success message confirming update.
+	 * @return The number of incomes inserted, updated, deleted and left unchanged.
+	 * @throws ResourceNotFoundException if the user is not found.
+	 * @throws InvalidRequestException   if a submitted income ID is not one of the
+	 *                                   user's current-year incomes.
 	 */
-	public String updateIncomeDetails(Long userId, List<IncomeDTO> updatedIncomes) {
+	@Transactional
+	@Override
+	public BulkIncomeUpdateDTO updateIncomeDetails(Long userId, List<IncomeDTO> updatedIncomes) {
 		// Fetch the user by userId or throw an exception if not found
 		User user = userRepository.findById(userId).orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-		int currentYear = LocalDate.now().getYear();
-
-		// Delete existing incomes for the current year before updating
-		incomeRepository.deleteByUserUserIdAndIncomeDateYear(userId, currentYear);
+		Map<Long, Income> storedIncomes = incomeRepository.findByUserUserIdAndTaxYear(userId, Year.now()).stream()
+				.collect(Collectors.toMap(Income::getIncomeId, Function.identity()));
 
-		// Save the updated incomes
+		List<Income> inserted = new ArrayList<>();
+		List<Income> previousValues = new ArrayList<>();
+		List<Income> updated = new ArrayList<>();
+		int unchanged = 0;
 		for (IncomeDTO incomeDTO : updatedIncomes) {
-			Income income = new Income();
-			income.setUser(user);
-			income.setIncomeSource(incomeDTO.getIncomeSource());
-			income.setAmount(incomeDTO.getAmount());
-			income.setIncomeDate(incomeDTO.getIncomeDate());
+			Income stored = incomeDTO.getIncomeId() == null ? null : storedIncomes.remove(incomeDTO.getIncomeId());
+			if (incomeDTO.getIncomeId() != null && stored == null) {
+				// a stale, repeated or foreign ID must not turn into a duplicate row
+				throw new InvalidRequestException("Income " + incomeDTO.getIncomeId()
+						+ " is not a current-year income of the user");
+			}
+			if (stored == null) {
+				inserted.add(Income.builder().user(user).incomeSource(incomeDTO.getIncomeSource())
+						.amount(incomeDTO.getAmount()).incomeDate(incomeDTO.getIncomeDate()).build());
+			} else if (isChanged(stored, incomeDTO)) {
+				previousValues.add(Income.builder().user(user).amount(stored.getAmount())
+						.incomeDate(stored.getIncomeDate()).isAmended(stored.getIsAmended()).build());
+				// managed entity, written by the batched flush at commit
+				stored.setIncomeSource(incomeDTO.getIncomeSource());
+				stored.setAmount(incomeDTO.getAmount());
+				stored.setIncomeDate(incomeDTO.getIncomeDate());
+				updated.add(stored);
+			} else {
+				unchanged++;
+			}
+		}
+		List<Income> deleted = new ArrayList<>(storedIncomes.values());
 
-			incomeRepository.save(income);
+		incomeDeductionInsertRepository.insertIncomes(inserted);
+		incomeRepository.deleteAllInBatch(deleted);
+
+		// back out removed and overwritten values and add the new ones, netted into
+		// one change per yearly summary so a summary built from the flushed rows is
+		// not adjusted a second time
+		previousValues.addAll(deleted);
+		recordIncomes(previousValues, Stream.concat(updated.stream(), inserted.stream()).toList());
+		if (!inserted.isEmpty() || !updated.isEmpty() || !deleted.isEmpty()) {
+			taxCalculationCacheService.evictUser(userId);
 		}
-		return "Income Updated Successfully";
+		return BulkIncomeUpdateDTO.builder().inserted(inserted.size()).updated(updated.size())
+				.deleted(deleted.size()).unchanged(unchanged).build();
+	}
+
+	private boolean isChanged(Income stored, IncomeDTO incomeDTO) {
+		return !Objects.equals(stored.getIncomeSource(), incomeDTO.getIncomeSource())
+				|| stored.getAmount() == null || incomeDTO.getAmount() == null
+				|| stored.getAmount().compareTo(incomeDTO.getAmount()) != 0
+				|| !Objects.equals(stored.getIncomeDate(), incomeDTO.getIncomeDate());
 	}
 
 	/**
@@ -157,10 +239,11 @@ public class IncomeServiceImpl implements IncomeService {
 	 * @param year   - The year for which incomes are to be deleted.
 	 * @return Success message confirming deletion.
 	 */
+	@Transactional
 	@Override
 	public String deleteIncomesByUserIdAndYear(Long userId, int year) {
 		// Fetch existing incomes for the given year
-		List<Income> existingIncomes = incomeRepository.findByUserUserIdAndIncomeDateYear(userId, year);
+		List<Income> existingIncomes = incomeRepository.findByUserUserIdAndTaxYear(userId, Year.of(year));
 
 		if (existingIncomes.isEmpty()) {
 			throw new ResourceNotFoundException("No incomes found for the given year");
@@ -168,6 +251,62 @@ public class IncomeServiceImpl implements IncomeService {
 
 		// Delete all incomes for the given year
 		incomeRepository.deleteAll(existingIncomes);
+		taxYearSummaryService.clearIncomes(userId, year);
+		taxCalculationCacheService.evictUser(userId);
 		return "Income Deleted Successfully...!";
 	}
+
+	/**
+	 * Adds or removes an income from the user's yearly totals.
+	 * 
+	 * @param income - The income that was saved or deleted.
+	 * @param sign   - 1 when the income was saved, -1 when it was deleted.
+	 */
+	private void recordIncome(Income income, int sign) {
+		BigDecimal amount = sign < 0 ? income.getAmount().negate() : income.getAmount();
+		taxYearSummaryService.recordIncomeChange(income.getUser().getUserId(), income.getIncomeDate(),
+				income.getIsAmended(), amount, sign);
+	}
+
+	/**
+	 * Applies removed and added incomes to the yearly totals with one net update
+	 * per user, tax year and amendment status rather than one per income.
+	 */
+	private void recordIncomes(List<Income> removed, List<Income> added) {
+		Map<List<Object>, Income> firsts = new LinkedHashMap<>();
+		Map<List<Object>, BigDecimal> amounts = new HashMap<>();
+		Map<List<Object>, Long> counts = new HashMap<>();
+		Stream.concat(removed.stream().map(income -> Map.entry(income, -1)),
+				added.stream().map(income -> Map.entry(income, 1))).forEach(change -> {
+					Income income = change.getKey();
+					List<Object> key = List.of(income.getUser().getUserId(), Year.from(income.getIncomeDate()),
+							income.getIsAmended());
+					firsts.putIfAbsent(key, income);
+					amounts.merge(key, change.getValue() < 0 ? income.getAmount().negate() : income.getAmount(),
+							BigDecimal::add);
+					counts.merge(key, (long) change.getValue(), Long::sum);
+				});
+		firsts.forEach((key, first) -> {
+			BigDecimal amount = amounts.get(key);
+			long count = counts.get(key);
+			if (amount.signum() != 0 || count != 0) {
+				taxYearSummaryService.recordIncomeChange(first.getUser().getUserId(), first.getIncomeDate(),
+						first.getIsAmended(), amount, count);
+			}
+		});
+	}
+
+	/**
+	 * Loads each of the given users once.
+	 * 
+	 * @throws ResourceNotFoundException if any of the users does not exist.
+	 */
+	private Map<Long, User> findUsers(Set<Long> userIds) {
+		Map<Long, User> users = userRepository.findAllById(userIds).stream()
+				.collect(Collectors.toMap(User::getUserId, Function.identity()));
+		if (users.size() != userIds.size()) {
+			throw new ResourceNotFoundException("User not found");
+		}
+		return users;
+	}
 }
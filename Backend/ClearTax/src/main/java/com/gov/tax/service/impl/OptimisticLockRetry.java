@@ -0,0 +1,51 @@
+package com.gov.tax.service.impl;
+
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a read-modify-save operation again when its save loses to a concurrent
+ * update of the same versioned row. Each attempt must read the row afresh and
+ * re-check the state the change depends on, failing instead of overwriting
+ * when the concurrent update has moved the row on, so the operation is retried
+ * as a whole and never holds a database lock between attempts.
+ */
+@Component
+class OptimisticLockRetry {
+
+	private static final Logger logger = LoggerFactory.getLogger(OptimisticLockRetry.class);
+
+	private final int maxAttempts;
+
+	OptimisticLockRetry(@Value("${tax.optimistic-lock.max-attempts:3}") int maxAttempts) {
+		this.maxAttempts = maxAttempts;
+	}
+
+	/**
+	 * Runs the operation, retrying it while its save conflicts with a concurrent
+	 * update.
+	 * 
+	 * @param <T>       The result type of the operation.
+	 * @param operation The operation, which reads, modifies and saves the row.
+	 * @return The result of the first attempt that saved without a conflict.
+	 * @throws OptimisticLockingFailureException If every attempt conflicted.
+	 */
+	<T> T run(Supplier<T> operation) {
+		for (int attempt = 1;; attempt++) {
+			try {
+				return operation.get();
+			} catch (OptimisticLockingFailureException e) {
+				if (attempt >= maxAttempts) {
+					throw e;
+				}
+				logger.debug("Concurrent update on attempt {} of {}, retrying: {}", attempt, maxAttempts,
+						e.getMessage());
+			}
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.gov.tax.service.impl;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gov.tax.config.ReplicaLagGuard;
+import com.gov.tax.service.TaxCalculationCacheService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TaxCalculationCacheServiceImpl implements TaxCalculationCacheService {
+
+	private final CacheManager cacheManager;
+	private final ReplicaLagGuard replicaLagGuard;
+
+	/**
+	 * Evicts the cached tax details and history of a user.
+	 * 
+	 * @param userId The ID of the user whose data changed.
+	 */
+	@Override
+	public void evictUser(Long userId) {
+		evictUsers(List.of(userId));
+	}
+
+	/**
+	 * Evicts the cached tax details and history of several users. Entries are
+	 * evicted immediately and again once the surrounding transaction commits, so
+	 * a read racing the write cannot leave stale data behind. The users' reads
+	 * also stay on the primary until the read replica has caught up.
+	 * 
+	 * @param userIds The IDs of the users whose data changed.
+	 */
+	@Override
+	public void evictUsers(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		replicaLagGuard.recordWrites(userIds);
+		Set<String> keyPrefixes = new HashSet<>();
+		userIds.forEach(userId -> keyPrefixes.add(userId + ":"));
+		evict(userIds, keyPrefixes);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evict(userIds, keyPrefixes);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Removes history entries by user ID and detail entries whose
+	 * "userId:year:isAmended" key starts with one of the user prefixes.
+	 */
+	private void evict(Collection<Long> userIds, Set<String> keyPrefixes) {
+		Cache history = cacheManager.getCache(TAX_HISTORY_CACHE);
+		if (history != null) {
+			userIds.forEach(history::evict);
+		}
+
+		Cache details = cacheManager.getCache(TAX_DETAILS_CACHE);
+		if (details == null) {
+			return;
+		}
+		if (details.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+			nativeCache.asMap().keySet().removeIf(key -> {
+				String detailsKey = key.toString();
+				return keyPrefixes.contains(detailsKey.substring(0, detailsKey.indexOf(':') + 1));
+			});
+		} else {
+			details.clear();
+		}
+	}
+}
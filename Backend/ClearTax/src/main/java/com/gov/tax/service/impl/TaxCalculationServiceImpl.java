@@ -1,26 +1,49 @@
 package com.gov.tax.service.impl;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.gov.tax.calculation.TaxRegime;
+import com.gov.tax.calculation.TaxRegimes;
+import com.gov.tax.config.ReplicaLagGuard;
 import com.gov.tax.dto.AmendmentRequestDTO;
-import com.gov.tax.dto.UserDTO;
-import com.gov.tax.entity.Deduction;
-import com.gov.tax.entity.Income;
+import com.gov.tax.dto.BulkTaxCalculationDTO;
+import com.gov.tax.dto.RegimeComparisonDTO;
+import com.gov.tax.dto.RegimeLiabilityDTO;
+import com.gov.tax.dto.TaxCalculationDTO;
+import com.gov.tax.dto.TaxCalculationHistoryDTO;
+import com.gov.tax.dto.TaxCalculationOutcomeDTO;
+import com.gov.tax.dto.TaxSimulationDTO;
+import com.gov.tax.dto.TaxSimulationPointDTO;
+import com.gov.tax.dto.TaxSimulationRequestDTO;
+import com.gov.tax.dto.TaxYearTotalsDTO;
 import com.gov.tax.entity.TaxCalculation;
+import com.gov.tax.entity.User;
+import com.gov.tax.exception.InvalidRequestException;
 import com.gov.tax.exception.ResourceNotFoundException;
-import com.gov.tax.mapper.UserMapper;
 import com.gov.tax.repository.DeductionRepository;
 import com.gov.tax.repository.IncomeRepository;
+import com.gov.tax.repository.TaxCalculationBatchRepository;
 import com.gov.tax.repository.TaxCalculationRepository;
+import com.gov.tax.repository.projection.AmountSummary;
+import com.gov.tax.repository.projection.DeductionTypeSummary;
+import com.gov.tax.repository.projection.UserAmountSummary;
+import com.gov.tax.service.TaxCalculationCacheService;
 import com.gov.tax.service.TaxCalculationService;
 import com.gov.tax.service.TaxPaymentService;
 import com.gov.tax.service.TaxRefundService;
+import com.gov.tax.service.TaxYearSummaryService;
 import com.gov.tax.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -33,10 +56,21 @@ public class TaxCalculationServiceImpl implements TaxCalculationService {
 	private final DeductionRepository deductionRepository;
 	private final TaxCalculationRepository taxCalculationRepository;
 	private final UserService userService;
-	private final UserMapper userMapper;
 	private final TaxRefundService taxRefundService;
 
 	private final TaxPaymentService taxPaymentService;
+	private final TaxCalculationBatchRepository taxCalculationBatchRepository;
+	private final TaxYearSummaryService taxYearSummaryService;
+	private final TaxCalculationCacheService taxCalculationCacheService;
+	private final ReplicaLagGuard replicaLagGuard;
+
+	// SQL Server accepts at most 2100 parameters per statement
+	private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+	private static final String CREATED = "Created";
+	private static final String UPDATED = "Updated";
+	private static final String SKIPPED = "Skipped";
+	private static final int MAX_SIMULATION_POINTS = 10_000;
+	private static final String TAX_DETAILS_NOT_FOUND = "Tax details not found for the selected year";
 
 	/**
 	 * Validates whether income and deductions exist for a given user and year.
@@ -47,8 +81,8 @@ public class TaxCalculationServiceImpl implements TaxCalculationService {
 	 */
 	@Override
 	public boolean validateIncomeAndDeductions(Long userId, int year) {
-		return !incomeRepository.findByUserUserIdAndIncomeDateYear(userId, year).isEmpty()
-				&& !deductionRepository.findByUserUserIdAndDeductionDateYear(userId, year).isEmpty();
+		TaxYearTotalsDTO totals = taxYearSummaryService.getTotals(userId, year);
+		return totals.hasIncome() && totals.hasDeductions();
 	}
 
 	/**
@@ -61,51 +95,58 @@ public class TaxCalculationServiceImpl implements TaxCalculationService {
 	 */
 	@Override
 	public TaxCalculation calculateAndSaveTaxLiability(Long userId, int year) {
-		if (!validateIncomeAndDeductions(userId, year)) {
+		// Totals are maintained on every income and deduction write, no line items loaded
+		TaxYearTotalsDTO totals = taxYearSummaryService.getTotals(userId, year);
+		if (!totals.hasIncome() || !totals.hasDeductions()) {
 			throw new ResourceNotFoundException("Income or Deduction Data Missing..!");
 		}
-		BigDecimal grossIncome = calculateGrossIncome(userId, year);
-		BigDecimal totalDeductions = calculateTotalDeductions(userId, year);
+		BigDecimal grossIncome = totals.getGrossIncome();
+		BigDecimal totalDeductions = totals.getTotalDeductions();
 		BigDecimal taxableIncome = grossIncome.subtract(totalDeductions);
-		BigDecimal tax = slabBasedTaxCalculation(taxableIncome);
+		BigDecimal tax = roundedTaxLiability(taxableIncome, Year.of(year));
 
-		UserDTO user = userService.getUserById(userId);
-
-		TaxCalculation taxCalculation = TaxCalculation.builder().user(userMapper.toEntity(user))
+		TaxCalculation taxCalculation = TaxCalculation.builder().user(userService.getUserReference(userId))
 				.grossIncome(grossIncome).deductions(totalDeductions).taxableIncome(taxableIncome)
-				.taxLiability(tax.setScale(2, RoundingMode.HALF_UP)).taxYear(Year.of(year)).isAmended(0).build();
+				.taxLiability(tax).taxYear(Year.of(year)).isAmended(0).build();
 
-		return taxCalculationRepository.save(taxCalculation);
+		TaxCalculation savedTaxCalculation = taxCalculationRepository.save(taxCalculation);
+		taxCalculationCacheService.evictUser(userId);
+		return savedTaxCalculation;
 	}
 
 	/**
-	 * Calculates tax based on predefined tax slabs.
+	 * Calculates tax using the regime in force for the current year.
 	 * 
 	 * @param taxableIncome The taxable income amount.
 	 * @return The calculated tax liability.
 	 */
 	@Override
 	public BigDecimal slabBasedTaxCalculation(BigDecimal taxableIncome) {
-		if (taxableIncome.compareTo(BigDecimal.ZERO) <= 0) {
-			return BigDecimal.ZERO;
-		}
-
-		BigDecimal tax = BigDecimal.ZERO;
-		BigDecimal[] slabs = { new BigDecimal("400000"), new BigDecimal("800000"), new BigDecimal("1200000"),
-				new BigDecimal("1600000"), new BigDecimal("2000000"), new BigDecimal("2400000") };
-		BigDecimal[] rates = { BigDecimal.ZERO, new BigDecimal("0.05"), new BigDecimal("0.10"), new BigDecimal("0.15"),
-				new BigDecimal("0.20"), new BigDecimal("0.25"), new BigDecimal("0.30") };
-
-		for (int i = 1; i < slabs.length; i++) {
-			if (taxableIncome.compareTo(slabs[i]) > 0) {
-				tax = tax.add(slabs[i].subtract(slabs[i - 1]).multiply(rates[i]));
-			} else {
-				tax = tax.add(taxableIncome.subtract(slabs[i - 1]).multiply(rates[i]));
-				return tax.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : tax;
-			}
-		}
-		tax = tax.add(taxableIncome.subtract(slabs[slabs.length - 1]).multiply(rates[rates.length - 1]));
-		return tax.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : tax;
+		return slabBasedTaxCalculation(taxableIncome, Year.now());
+	}
+
+	/**
+	 * Calculates tax using the slab regime in force for the given tax year.
+	 * 
+	 * @param taxableIncome The taxable income amount.
+	 * @param taxYear       The tax year whose regime applies.
+	 * @return The calculated tax liability.
+	 */
+	@Override
+	public BigDecimal slabBasedTaxCalculation(BigDecimal taxableIncome, Year taxYear) {
+		return TaxRegimes.forYear(taxYear).taxOn(taxableIncome);
+	}
+
+	/**
+	 * Calculates the tax liability rounded to paise, using the fixed-point path of
+	 * the regime in force for the given tax year.
+	 * 
+	 * @param taxableIncome The taxable income amount.
+	 * @param taxYear       The tax year whose regime applies.
+	 * @return The tax liability with two decimal places.
+	 */
+	private BigDecimal roundedTaxLiability(BigDecimal taxableIncome, Year taxYear) {
+		return TaxRegimes.forYear(taxYear).roundedTaxOn(taxableIncome);
 	}
 
 	/**
@@ -117,11 +158,11 @@ public class TaxCalculationServiceImpl implements TaxCalculationService {
 	 */
 	@Override
 	public BigDecimal calculateGrossIncome(Long userId, int year) {
-		List<Income> incomes = incomeRepository.findByUserUserIdAndIncomeDateYear(userId, year);
-		if (incomes.isEmpty()) {
+		TaxYearTotalsDTO totals = taxYearSummaryService.getTotals(userId, year);
+		if (!totals.hasIncome()) {
 			throw new ResourceNotFoundException("Income Details are Missing");
 		}
-		return incomes.stream().map(Income::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+		return totals.getGrossIncome();
 	}
 
 	/**
@@ -133,11 +174,11 @@ public class TaxCalculationServiceImpl implements TaxCalculationService {
 	 */
 	@Override
 	public BigDecimal calculateTotalDeductions(Long userId, int year) {
-		List<Deduction> deductions = deductionRepository.findByUserUserIdAndDeductionDateYear(userId, year);
-		if (deductions.isEmpty()) {
+		TaxYearTotalsDTO totals = taxYearSummaryService.getTotals(userId, year);
+		if (!totals.hasDeductions()) {
 			throw new ResourceNotFoundException("Deduction Details are Missing");
 		}
-		return deductions.stream().map(Deduction::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+		return totals.getTotalDeductions();
 	}
 
 	/**
@@ -146,28 +187,57 @@ public class TaxCalculationServiceImpl implements TaxCalculationService {
 	 * @param userId    The ID of the user.
 	 * @param year      The tax year.
 	 * @param isAmended Amendment status.
-	 * @return The TaxCalculation entity.
+	 * @return The tax calculation details.
 	 */
+	@Cacheable(cacheNames = TaxCalculationCacheService.TAX_DETAILS_CACHE,
+			key = "#userId + ':' + #year + ':' + #isAmended")
 	@Override
-	public TaxCalculation getTaxDetails(Long userId, int year, int isAmended) {
+	public TaxCalculationDTO getTaxDetails(Long userId, int year, int isAmended) {
+		validateTaxYear(userId, year);
+
+		return taxCalculationRepository.findDetailsByUserIdAndTaxYearAndIsAmended(userId, Year.of(year), isAmended)
+				.orElseThrow(() -> new ResourceNotFoundException(TAX_DETAILS_NOT_FOUND));
+	}
+
+	/**
+	 * Retrieves tax history for a given user. Reads from the primary, since a
+	 * stale replica read would stay cached until the entry expires.
+	 * 
+	 * @param userId The ID of the user.
+	 * @return A list of tax calculation details.
+	 */
+	@Cacheable(cacheNames = TaxCalculationCacheService.TAX_HISTORY_CACHE, key = "#userId")
+	@Override
+	public List<TaxCalculationDTO> getTaxHistory(Long userId) {
+		List<TaxCalculationDTO> history = taxCalculationRepository.findDetailsByUserId(userId);
+		if (history.isEmpty()) {
+			throw new ResourceNotFoundException("Tax details not found for the User");
+		}
+		return history;
+	}
+
+	private void validateTaxYear(Long userId, int year) {
 		if (!validateIncomeAndDeductions(userId, year)) {
 			throw new ResourceNotFoundException("Income or deductions are missing for the year " + year);
 		}
-
-		return taxCalculationRepository.findByUserUserIdAndTaxYearAndIsAmended(userId, Year.of(year), isAmended)
-				.orElseThrow(() -> new ResourceNotFoundException("Tax details not found for the selected year"));
 	}
 
 	/**
-	 * Retrieves tax history for a given user.
+	 * Retrieves the full calculation history of a user, with every amendment
+	 * linked to the calculation it amends, using a single query.
 	 * 
 	 * @param userId The ID of the user.
-	 * @return A list of TaxCalculation entities.
+	 * @return The calculations, latest year first.
 	 */
+	@Transactional(readOnly = true)
 	@Override
-	public List<TaxCalculation> getTaxHistory(Long userId) {
-		return taxCalculationRepository.findByUserUserId(userId)
-				.orElseThrow(() -> new ResourceNotFoundException("Tax details not found for the User"));
+	public List<TaxCalculationHistoryDTO> getAmendmentHistory(Long userId) {
+		replicaLagGuard.readFor(userId);
+		List<TaxCalculationHistoryDTO> history = taxCalculationRepository.findHistoryByUserId(userId);
+		if (history.isEmpty()) {
+			throw new ResourceNotFoundException("Tax details not found for the User");
+		}
+		return history;
 	}
 
 	/**
@@ -186,9 +256,11 @@ public class TaxCalculationServiceImpl implements TaxCalculationService {
 		taxCalculation.setDeductions(calculateTotalDeductions(userId, year));
 		BigDecimal newTaxableIncome = taxCalculation.getGrossIncome().subtract(taxCalculation.getDeductions());
 		taxCalculation.setTaxableIncome(newTaxableIncome);
-		taxCalculation.setTaxLiability(slabBasedTaxCalculation(newTaxableIncome));
+		taxCalculation.setTaxLiability(roundedTaxLiability(newTaxableIncome, taxCalculation.getTaxYear()));
 
-		return taxCalculationRepository.save(taxCalculation);
+		TaxCalculation savedTaxCalculation = taxCalculationRepository.save(taxCalculation);
+		taxCalculationCacheService.evictUser(userId);
+		return savedTaxCalculation;
 	}
 
 	/**
@@ -202,18 +274,23 @@ public class TaxCalculationServiceImpl implements TaxCalculationService {
 	@Override
 	public AmendmentRequestDTO amendTaxCalculation(Long userId, AmendmentRequestDTO newCalculationDetails) {
 		// get original tax calculation
-		TaxCalculation originalTaxCalculation = getTaxDetails(userId, newCalculationDetails.getTaxYear(), 0);
+		validateTaxYear(userId, newCalculationDetails.getTaxYear());
+		TaxCalculation originalTaxCalculation = taxCalculationRepository
+				.findByUserUserIdAndTaxYearAndIsAmended(userId, Year.of(newCalculationDetails.getTaxYear()), 0)
+				.orElseThrow(() -> new ResourceNotFoundException(TAX_DETAILS_NOT_FOUND));
 
 		// create new tax calculation with amended details
-		TaxCalculation newTaxCalculation = TaxCalculation.builder().user(newCalculationDetails.getUser())
+		TaxCalculation newTaxCalculation = TaxCalculation.builder().user(userService.getUserReference(userId))
 				.grossIncome(newCalculationDetails.getTotalIncome())
 				.deductions(newCalculationDetails.getTotalDeductions())
 				.taxableIncome(newCalculationDetails.getTaxableIncome())
-				.taxLiability(slabBasedTaxCalculation(newCalculationDetails.getTaxableIncome()))
+				.taxLiability(roundedTaxLiability(newCalculationDetails.getTaxableIncome(),
+						Year.of(newCalculationDetails.getTaxYear())))
 				.taxYear(Year.of(newCalculationDetails.getTaxYear())).isAmended(newCalculationDetails.getIsAmended())
 				.originalTaxCalculation(originalTaxCalculation).build();
 
 		taxCalculationRepository.save(newTaxCalculation);
+		taxCalculationCacheService.evictUser(userId);
 
 		// compare tax liabilities
 		BigDecimal originalTaxLiability = originalTaxCalculation.getTaxLiability();
@@ -230,4 +307,222 @@ public class TaxCalculationServiceImpl implements TaxCalculationService {
 		newCalculationDetails.setTaxLiability(newTaxLiability);
 		return newCalculationDetails;
 	}
+
+	/**
+	 * Calculates and saves the tax liability of many users for one tax year.
+	 * Incomes and deductions are aggregated per user with GROUP BY queries, the
+	 * liabilities are computed in memory and the calculation rows are written
+	 * with batched JDBC statements. Existing non-amended calculations for the
+	 * year are updated, missing ones are created.
+	 * 
+	 * @param year    The tax year.
+	 * @param userIds The users to calculate for, or null/empty for every user
+	 *                with income or deductions in the year.
+	 * @return The per-user outcomes and their totals.
+	 */
+	@Transactional
+	@Override
+	public BulkTaxCalculationDTO calculateTaxLiabilityInBulk(int year, Set<Long> userIds) {
+		Year taxYear = Year.of(year);
+		boolean allUsers = userIds == null || userIds.isEmpty();
+
+		Map<Long, AmountSummary> incomes = new HashMap<>();
+		Map<Long, AmountSummary> deductions = new HashMap<>();
+		Map<Long, Long> existingCalculations = new HashMap<>();
+		if (allUsers) {
+			collectSummaries(incomeRepository.summarizeByTaxYearGroupByUser(taxYear), incomes);
+			collectSummaries(deductionRepository.summarizeByTaxYearGroupByUser(taxYear), deductions);
+			taxCalculationRepository.findIdsByTaxYearAndIsAmended(taxYear, 0)
+					.forEach(id -> existingCalculations.put(id.userId(), id.taxCalculationId()));
+		} else {
+			for (List<Long> chunk : chunk(userIds)) {
+				collectSummaries(incomeRepository.summarizeByTaxYearAndUserIdsGroupByUser(taxYear, chunk), incomes);
+				collectSummaries(deductionRepository.summarizeByTaxYearAndUserIdsGroupByUser(taxYear, chunk),
+						deductions);
+				taxCalculationRepository.findIdsByTaxYearAndIsAmendedAndUserIds(taxYear, 0, chunk)
+						.forEach(id -> existingCalculations.put(id.userId(), id.taxCalculationId()));
+			}
+		}
+
+		Set<Long> targetUserIds = new TreeSet<>();
+		if (allUsers) {
+			targetUserIds.addAll(incomes.keySet());
+			targetUserIds.addAll(deductions.keySet());
+		} else {
+			targetUserIds.addAll(userIds);
+		}
+
+		TaxRegime regime = TaxRegimes.forYear(taxYear);
+		List<TaxCalculation> inserts = new ArrayList<>();
+		List<TaxCalculation> updates = new ArrayList<>();
+		List<TaxCalculationOutcomeDTO> outcomes = new ArrayList<>(targetUserIds.size());
+
+		for (Long userId : targetUserIds) {
+			AmountSummary income = incomes.get(userId);
+			AmountSummary deduction = deductions.get(userId);
+			if (income == null || deduction == null) {
+				outcomes.add(TaxCalculationOutcomeDTO.builder().userId(userId).status(SKIPPED)
+						.message("Income or Deduction Data Missing..!").build());
+				continue;
+			}
+
+			BigDecimal taxableIncome = income.total().subtract(deduction.total());
+			Long existingId = existingCalculations.get(userId);
+			TaxCalculation taxCalculation = TaxCalculation.builder().taxCalculationId(existingId)
+					.user(User.builder().userId(userId).build()).grossIncome(income.total())
+					.deductions(deduction.total()).taxableIncome(taxableIncome)
+					.taxLiability(regime.roundedTaxOn(taxableIncome)).taxYear(taxYear).isAmended(0).build();
+			(existingId == null ? inserts : updates).add(taxCalculation);
+
+			outcomes.add(TaxCalculationOutcomeDTO.builder().userId(userId).status(existingId == null ? CREATED : UPDATED)
+					.grossIncome(taxCalculation.getGrossIncome()).deductions(taxCalculation.getDeductions())
+					.taxLiability(taxCalculation.getTaxLiability()).build());
+		}
+
+		int created = taxCalculationBatchRepository.insertAll(inserts);
+		int updated = taxCalculationBatchRepository.updateAll(updates);
+		taxCalculationCacheService.evictUsers(targetUserIds);
+
+		return BulkTaxCalculationDTO.builder().taxYear(year).created(created).updated(updated)
+				.skipped(outcomes.size() - inserts.size() - updates.size()).outcomes(outcomes).build();
+	}
+
+	/**
+	 * Compares the tax liability of a user under every regime in force for a
+	 * year. Income comes from the maintained yearly totals and deductions from
+	 * one query grouped by deduction type; each regime then sums only the types
+	 * it allows.
+	 * 
+	 * @param userId The ID of the user.
+	 * @param year   The tax year.
+	 * @return The liability per regime and the cheapest regime.
+	 * @throws ResourceNotFoundException if the user has no income for the year.
+	 */
+	@Override
+	public RegimeComparisonDTO compareTaxRegimes(Long userId, int year) {
+		TaxYearTotalsDTO totals = taxYearSummaryService.getTotals(userId, year);
+		if (!totals.hasIncome()) {
+			throw new ResourceNotFoundException("Income Details are Missing");
+		}
+		List<DeductionTypeSummary> deductionsByType = deductionRepository
+				.summarizeByUserUserIdAndTaxYearGroupByType(userId, Year.of(year));
+
+		List<RegimeLiabilityDTO> regimes = new ArrayList<>();
+		RegimeLiabilityDTO cheapest = null;
+		for (TaxRegime regime : TaxRegimes.allForYear(Year.of(year))) {
+			BigDecimal eligibleDeductions = BigDecimal.ZERO;
+			for (DeductionTypeSummary deductionType : deductionsByType) {
+				if (regime.allowsDeduction(deductionType.deductionType())) {
+					eligibleDeductions = eligibleDeductions.add(deductionType.total());
+				}
+			}
+			BigDecimal taxableIncome = totals.getGrossIncome().subtract(eligibleDeductions);
+			RegimeLiabilityDTO liability = new RegimeLiabilityDTO(regime.getName(), eligibleDeductions,
+					taxableIncome, regime.roundedTaxOn(taxableIncome));
+			regimes.add(liability);
+			if (cheapest == null || liability.getTaxLiability().compareTo(cheapest.getTaxLiability()) < 0) {
+				cheapest = liability;
+			}
+		}
+
+		return RegimeComparisonDTO.builder().userId(userId).taxYear(year).grossIncome(totals.getGrossIncome())
+				.regimes(regimes).cheapestRegime(cheapest.getRegime()).build();
+	}
+
+	/**
+	 * Evaluates the tax liability for many taxable incomes, optionally combined
+	 * with candidate deduction changes, without touching the database. The
+	 * regime is resolved once and every point goes through its fixed-point path.
+	 * 
+	 * @param simulationRequest The incomes, or income range, and deduction
+	 *                          changes to evaluate.
+	 * @return The liability of every income and deduction change combination.
+	 * @throws InvalidRequestException if no incomes are given, the range is
+	 *                                 invalid or there are too many points.
+	 */
+	@Override
+	public TaxSimulationDTO simulateTaxLiability(TaxSimulationRequestDTO simulationRequest) {
+		Year taxYear = simulationRequest.getTaxYear() == null ? Year.now() : Year.of(simulationRequest.getTaxYear());
+		TaxRegime regime = TaxRegimes.forYear(taxYear);
+
+		List<BigDecimal> deductionChanges = simulationRequest.getDeductionChanges() == null
+				|| simulationRequest.getDeductionChanges().isEmpty() ? List.of(BigDecimal.ZERO)
+						: simulationRequest.getDeductionChanges();
+		if (deductionChanges.stream().anyMatch(Objects::isNull)) {
+			throw new InvalidRequestException("Deduction changes must not contain empty values");
+		}
+		List<BigDecimal> taxableIncomes = simulationIncomes(simulationRequest,
+				MAX_SIMULATION_POINTS / deductionChanges.size());
+
+		List<TaxSimulationPointDTO> points = new ArrayList<>(taxableIncomes.size() * deductionChanges.size());
+		for (BigDecimal taxableIncome : taxableIncomes) {
+			for (BigDecimal deductionChange : deductionChanges) {
+				BigDecimal adjustedTaxableIncome = taxableIncome.subtract(deductionChange);
+				points.add(new TaxSimulationPointDTO(taxableIncome, deductionChange, adjustedTaxableIncome,
+						regime.roundedTaxOn(adjustedTaxableIncome)));
+			}
+		}
+		return TaxSimulationDTO.builder().taxYear(taxYear.getValue()).regime(regime.getName()).points(points)
+				.build();
+	}
+
+	/**
+	 * Adds per-user aggregates to a map keyed by user ID.
+	 */
+	private void collectSummaries(List<UserAmountSummary> summaries, Map<Long, AmountSummary> target) {
+		for (UserAmountSummary summary : summaries) {
+			target.put(summary.userId(), summary.toAmountSummary());
+		}
+	}
+
+	/**
+	 * Splits user IDs into chunks small enough for an IN clause.
+	 */
+	private List<List<Long>> chunk(Set<Long> userIds) {
+		List<Long> ids = new ArrayList<>(userIds);
+		List<List<Long>> chunks = new ArrayList<>();
+		for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+			chunks.add(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size())));
+		}
+		return chunks;
+	}
+
+	/**
+	 * Resolves the taxable incomes of a simulation from its explicit list or its
+	 * range, rejecting requests with more than the allowed number of incomes.
+	 */
+	private List<BigDecimal> simulationIncomes(TaxSimulationRequestDTO simulationRequest, int maxIncomes) {
+		List<BigDecimal> taxableIncomes = simulationRequest.getTaxableIncomes();
+		if (taxableIncomes != null && !taxableIncomes.isEmpty()) {
+			if (taxableIncomes.stream().anyMatch(Objects::isNull)) {
+				throw new InvalidRequestException("Taxable incomes must not contain empty values");
+			}
+			if (taxableIncomes.size() > maxIncomes) {
+				throw new InvalidRequestException(
+						"A simulation is limited to " + MAX_SIMULATION_POINTS + " points per request");
+			}
+			return taxableIncomes;
+		}
+
+		BigDecimal start = simulationRequest.getRangeStart();
+		BigDecimal end = simulationRequest.getRangeEnd();
+		BigDecimal step = simulationRequest.getRangeStep();
+		if (start == null || end == null || step == null) {
+			throw new InvalidRequestException("Provide taxable incomes or a range start, end and step");
+		}
+		if (step.signum() <= 0 || start.compareTo(end) > 0) {
+			throw new InvalidRequestException("The range step must be positive and the start must not exceed the end");
+		}
+		BigDecimal count = end.subtract(start).divideToIntegralValue(step).add(BigDecimal.ONE);
+		if (count.compareTo(BigDecimal.valueOf(maxIncomes)) > 0) {
+			throw new InvalidRequestException(
+					"A simulation is limited to " + MAX_SIMULATION_POINTS + " points per request");
+		}
+
+		List<BigDecimal> rangeIncomes = new ArrayList<>(count.intValue());
+		for (BigDecimal income = start; income.compareTo(end) <= 0; income = income.add(step)) {
+			rangeIncomes.add(income);
+		}
+		return rangeIncomes;
+	}
 }
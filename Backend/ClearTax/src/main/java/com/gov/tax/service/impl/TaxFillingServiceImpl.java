@@ -6,25 +6,27 @@ import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.gov.tax.config.ReplicaLagGuard;
+import com.gov.tax.dto.DeductionDTO;
+import com.gov.tax.dto.IncomeDTO;
 import com.gov.tax.dto.TaxFillingDTO;
-import com.gov.tax.entity.Deduction;
-import com.gov.tax.entity.Income;
-import com.gov.tax.entity.TaxCalculation;
+import com.gov.tax.dto.TaxFillingHistoryDTO;
+import com.gov.tax.entity.PaymentStatus;
 import com.gov.tax.entity.TaxFilling;
 import com.gov.tax.entity.TaxPayment;
-import com.gov.tax.entity.User;
 import com.gov.tax.exception.ResourceAlreadyExistsException;
 import com.gov.tax.exception.ResourceNotFoundException;
 import com.gov.tax.repository.TaxCalculationRepository;
+import com.gov.tax.repository.TaxFillingInsertRepository;
 import com.gov.tax.repository.TaxFillingRepository;
-import com.gov.tax.repository.TaxPaymentRepository;
 import com.gov.tax.repository.UserRepository;
+import com.gov.tax.repository.projection.FilingSubmission;
 import com.gov.tax.service.DeductionService;
 import com.gov.tax.service.IncomeService;
 import com.gov.tax.service.TaxFillingService;
@@ -56,9 +58,10 @@ public class TaxFillingServiceImpl implements TaxFillingService {
 	private final TaxCalculationRepository taxCalculationRepository;
 	private final TaxFillingRepository taxFillingRepository;
 	private final UserRepository userRepository;
-	private final TaxPaymentRepository taxPaymentRepository;
+	private final TaxFillingInsertRepository taxFillingInsertRepository;
 	private final IncomeService incomeService;
 	private final DeductionService deductionService;
+	private final ReplicaLagGuard replicaLagGuard;
 	private static final Logger logger = LoggerFactory.getLogger(TaxFillingServiceImpl.class);
 
 	/**
@@ -86,7 +89,10 @@ public class TaxFillingServiceImpl implements TaxFillingService {
 	}
 
 	/**
-	 * Submits the tax return for the given user and tax year.
+	 * Submits the tax return for the given user and tax year. The filing and the
+	 * liability of the year are read in one query; the filing is then moved to
+	 * "Filled" only if it is not already, so of two concurrent submissions just
+	 * one creates the pending payment.
 	 * 
 	 * @param userId  The ID of the user.
 	 * @param taxYear The tax year.
@@ -94,44 +100,29 @@ public class TaxFillingServiceImpl implements TaxFillingService {
 	 * @throws ResourceNotFoundException If the tax filing PDF has not been
 	 *                                   generated.
 	 */
+	@Transactional
 	@Override
 	public String submitTaxReturn(Long userId, Year taxYear) {
-		// Check if PDF is already generated for this user and tax year
-		if (!isPdfGenerated(userId, taxYear)) {
-			throw new ResourceNotFoundException("Tax filing PDF must be generated before submitting the tax return.");
-		}
-
-		// Retrieve the tax filing from the database and check its filing status
-		TaxFilling taxFilling = taxFillingRepository.findByUserUserIdAndTaxYear(userId, taxYear).orElseThrow(
-				() -> new ResourceNotFoundException("Tax Filing not found for the given user and tax year."));
-
-		// If the return is already filed, return an appropriate message
-		if ("Filled".equals(taxFilling.getFillingStatus())) {
+		// The PDF is generated together with the filing, so a missing filing has no PDF either
+		FilingSubmission submission = taxFillingRepository.findSubmissionByUserIdAndTaxYear(userId, taxYear)
+				.filter(found -> found.filing().isPdfGenerated()).orElseThrow(() -> new ResourceNotFoundException(
+						"Tax filing PDF must be generated before submitting the tax return."));
+		TaxFilling taxFilling = submission.filing();
+		replicaLagGuard.recordWrite(userId);
+
+		// If the return is already filed, or another submission filed it first, return an appropriate message
+		if ("Filled".equals(taxFilling.getFillingStatus())
+				|| taxFillingRepository.markFiled(taxFilling.getTaxFilingId(), LocalDate.now()) == 0) {
 			return "Tax return already Filed";
 		}
 
-		// Set filing as "Filled" and update the filing date
-		taxFilling.setFillingStatus("Filled");
-		taxFilling.setFilingDate(LocalDate.now());
-
-		// Retrieve the tax calculation and check the tax liability
-		Optional<TaxCalculation> taxCalculationOptional = taxCalculationRepository.findByUserUserIdAndTaxYear(userId,
-				taxYear);
-		if (taxCalculationOptional.isPresent()) {
-			TaxCalculation taxCalculation = taxCalculationOptional.get();
-
-			// If there's a non-zero tax liability, create and save a tax payment entry
-			if (taxCalculation.getTaxLiability().compareTo(BigDecimal.ZERO) != 0) {
-				TaxPayment taxPayment = TaxPayment.builder()
-						.user(userRepository.findById(userId)
-								.orElseThrow(() -> new RuntimeException("User not found with ID: " + userId)))
-						.amountPaid(taxCalculation.getTaxLiability()).paymentStatus("Pending").build();
-				taxPaymentRepository.save(taxPayment);
-			}
+		// If there's a non-zero tax liability, create the filing's tax payment entry unless it already exists
+		BigDecimal taxLiability = submission.taxLiability();
+		if (taxLiability != null && taxLiability.compareTo(BigDecimal.ZERO) != 0) {
+			TaxPayment taxPayment = TaxPayment.builder().user(taxFilling.getUser()).amountPaid(taxLiability)
+					.paymentStatus(PaymentStatus.PENDING).taxFiling(taxFilling).build();
+			taxFillingInsertRepository.insertPaymentIfAbsent(taxPayment);
 		}
-
-		// Save the updated tax filing status
-		taxFillingRepository.save(taxFilling);
 		return "Tax return successfully filed.";
 	}
 
@@ -158,10 +149,12 @@ public class TaxFillingServiceImpl implements TaxFillingService {
 	 * @return A list of tax filings.
 	 * @throws ResourceNotFoundException If no tax filings are found.
 	 */
+	@Transactional(readOnly = true)
 	@Override
-	public List<TaxFilling> getTaxFillingHistory(Long userId) {
+	public List<TaxFillingHistoryDTO> getTaxFillingHistory(Long userId) {
+		replicaLagGuard.readFor(userId);
 		// Retrieve the tax filing history for the given user
-		List<TaxFilling> taxFillings = taxFillingRepository.findAllByUserUserId(userId);
+		List<TaxFillingHistoryDTO> taxFillings = taxFillingRepository.findHistoryByUserId(userId);
 		if (taxFillings.isEmpty()) {
 			throw new ResourceNotFoundException("No Tax Fillings Found for User");
 		}
@@ -197,9 +190,9 @@ public class TaxFillingServiceImpl implements TaxFillingService {
 		validateTaxFillingDTO(taxFillingDTO);
 
 		// Step 4: Fetch Income and Deduction Details from the services
-		List<Income> incomes = incomeService.getIncomesByYearAndUserId(taxFillingDTO.getUserId(), Year.now().getValue(),
+		List<IncomeDTO> incomes = incomeService.getIncomesByYearAndUserId(taxFillingDTO.getUserId(), Year.now().getValue(),
 				0);
-		List<Deduction> deductions = deductionService.getDeductionsByYearAndUserId(taxFillingDTO.getUserId(),
+		List<DeductionDTO> deductions = deductionService.getDeductionsByYearAndUserId(taxFillingDTO.getUserId(),
 				Year.now().getValue(), 0);
 
 		// Step 5: Initialize PDF document
@@ -261,9 +254,9 @@ public class TaxFillingServiceImpl implements TaxFillingService {
 	public byte[] createTaxFillingPdf(TaxFillingDTO taxFillingDTO) throws IOException, DocumentException {
 
 		// Fetch Incomes and Deductions from the respective services
-		List<Income> incomes = incomeService.getIncomesByYearAndUserId(taxFillingDTO.getUserId(), Year.now().getValue(),
+		List<IncomeDTO> incomes = incomeService.getIncomesByYearAndUserId(taxFillingDTO.getUserId(), Year.now().getValue(),
 				0);
-		List<Deduction> deductions = deductionService.getDeductionsByYearAndUserId(taxFillingDTO.getUserId(),
+		List<DeductionDTO> deductions = deductionService.getDeductionsByYearAndUserId(taxFillingDTO.getUserId(),
 				Year.now().getValue(), 0);
 
 		try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
@@ -391,14 +384,14 @@ public class TaxFillingServiceImpl implements TaxFillingService {
 	 * @param incomes  A list of income records to include in the section.
 	 * @throws DocumentException If an error occurs while creating the table.
 	 */
-	private void addIncomeSection(Document document, List<Income> incomes) throws DocumentException {
+	private void addIncomeSection(Document document, List<IncomeDTO> incomes) throws DocumentException {
 		addBoxedSection(document, "Section A: Income Details", 12);
 		PdfPTable incomeTable = new PdfPTable(2);
 		incomeTable.setWidthPercentage(100);
 		incomeTable.setWidths(new float[] { 1, 2 });
 
 		BigDecimal totalIncome = BigDecimal.ZERO;
-		for (Income income : incomes) {
+		for (IncomeDTO income : incomes) {
 			addTableRow(incomeTable, income.getIncomeSource(), income.getAmount().toString());
 			totalIncome = totalIncome.add(income.getAmount());
 		}
@@ -413,14 +406,14 @@ public class TaxFillingServiceImpl implements TaxFillingService {
 	 * @param deductions A list of deductions to include in the section.
 	 * @throws DocumentException If an error occurs while creating the table.
 	 */
-	private void addDeductionsSection(Document document, List<Deduction> deductions) throws DocumentException {
+	private void addDeductionsSection(Document document, List<DeductionDTO> deductions) throws DocumentException {
 		addBoxedSection(document, "Section B: Deductions", 12);
 		PdfPTable deductionsTable = new PdfPTable(2);
 		deductionsTable.setWidthPercentage(100);
 		deductionsTable.setWidths(new float[] { 1, 2 });
 
 		BigDecimal totalDeductions = BigDecimal.ZERO;
-		for (Deduction deduction : deductions) {
+		for (DeductionDTO deduction : deductions) {
 			addTableRow(deductionsTable, deduction.getDeductionType(), deduction.getAmount().toString());
 			totalDeductions = totalDeductions.add(deduction.getAmount());
 		}
@@ -505,20 +498,27 @@ public class TaxFillingServiceImpl implements TaxFillingService {
 	/**
 	 * Helper Method Saves tax filing information for a user. Validates the user ID,
 	 * sets the filing date, tax year, and refund status. Marks the PDF as generated
-	 * and saves the tax filing record.
+	 * and saves the tax filing record, unless a concurrent request for the same
+	 * user and tax year saved it first.
 	 *
 	 * @param taxFillingDTO The tax filing data transfer object containing
 	 *                      tax-related details.
+	 * @throws ResourceNotFoundException If the user does not exist.
 	 */
 	private void saveTaxFiling(TaxFillingDTO taxFillingDTO) {
-		User user = userRepository.findById(taxFillingDTO.getUserId())
-				.orElseThrow(() -> new ResourceNotFoundException("User not found"));
+		if (!userRepository.existsById(taxFillingDTO.getUserId())) {
+			throw new ResourceNotFoundException("User not found");
+		}
 
-		TaxFilling taxFilling = TaxFilling.builder().user(user).filingDate(LocalDate.now())
-				.taxYear(taxFillingDTO.getTaxYear()).refundStatus(taxFillingDTO.getRefundStatus()).pdfGenerated(true)
-				.build();
+		TaxFilling taxFilling = TaxFilling.builder().user(userRepository.getReferenceById(taxFillingDTO.getUserId()))
+				.filingDate(LocalDate.now()).taxYear(taxFillingDTO.getTaxYear())
+				.refundStatus(taxFillingDTO.getRefundStatus()).pdfGenerated(true).build();
 
-		taxFillingRepository.save(taxFilling);
+		replicaLagGuard.recordWrite(taxFillingDTO.getUserId());
+		if (!taxFillingInsertRepository.insertFilingIfAbsent(taxFilling)) {
+			logger.info("Tax filing for user {} and year {} was already saved", taxFillingDTO.getUserId(),
+					taxFillingDTO.getTaxYear());
+		}
 	}
 
 	/**
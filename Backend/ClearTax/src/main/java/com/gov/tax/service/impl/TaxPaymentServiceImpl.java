@@ -16,15 +16,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.gov.tax.config.ReplicaLagGuard;
+import com.gov.tax.dto.DeductionDTO;
+import com.gov.tax.dto.IncomeDTO;
+import com.gov.tax.dto.TaxPaymentDTO;
 import com.gov.tax.dto.UserDTO;
-import com.gov.tax.entity.Deduction;
-import com.gov.tax.entity.Income;
+import com.gov.tax.entity.PaymentStatus;
 import com.gov.tax.entity.TaxCalculation;
 import com.gov.tax.entity.TaxPayment;
+import com.gov.tax.exception.InvalidRequestException;
 import com.gov.tax.exception.ResourceNotFoundException;
-import com.gov.tax.mapper.UserMapper;
 import com.gov.tax.repository.TaxCalculationRepository;
 import com.gov.tax.repository.TaxPaymentRepository;
 import com.gov.tax.service.DeductionService;
@@ -61,7 +68,7 @@ import lombok.RequiredArgsConstructor;
 public class TaxPaymentServiceImpl implements TaxPaymentService {
 
 	private static final String NO_DATA_FOUND = "No data found..!";
-	private static final String PENDDING = "Pending";
+	private static final int MAX_PAGE_SIZE = 500;
 	private static final String GROSS_INCOME = "Gross Income: ";
 	private static final String TOTAL_DEDUCTIONS = "Total Deductions: ";
 	private static final String TAXABLE_INCOME = "Taxable Income: ";
@@ -78,9 +85,10 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 
 	private final TaxPaymentRepository taxPaymentRepository;
 	private final UserService userService;
-	private final UserMapper userMapper;
 	private final IncomeService incomeService;
 	private final DeductionService deductionService;
+	private final OptimisticLockRetry optimisticLockRetry;
+	private final ReplicaLagGuard replicaLagGuard;
 
 	@Lazy
 	private final TaxCalculationRepository taxCalculationRepository;
@@ -94,21 +102,12 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 * @throws ResourceNotFoundException If no tax payment is found.
 	 */
 	@Override
-	public TaxPayment getTaxPaymentByUserId(Long userId) {
-		List<TaxPayment> taxPayments = taxPaymentRepository.findAllByUserUserId(userId);
-
-		if (taxPayments.isEmpty()) {
-			throw new ResourceNotFoundException(NO_DATA_FOUND);
-		}
-
-		// Search for the first PENDDING payment
-		for (TaxPayment taxPayment : taxPayments) {
-			if (PENDDING.equals(taxPayment.getPaymentStatus())) {
-				return taxPayment;
-			}
-		}
-
-		throw new ResourceNotFoundException("No Tax Payments found with NULL transactionId!");
+	public TaxPaymentDTO getTaxPaymentByUserId(Long userId) {
+		// Read only the first PENDING payment
+		return taxPaymentRepository
+				.findDetailsByUserIdAndPaymentStatus(userId, PaymentStatus.PENDING, PageRequest.of(0, 1)).stream()
+				.findFirst()
+				.orElseThrow(() -> new ResourceNotFoundException("No Tax Payments found with NULL transactionId!"));
 	}
 
 	/**
@@ -120,14 +119,9 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 * @throws ResourceNotFoundException If no tax payment is found.
 	 */
 	@Override
-	public TaxPayment getTaxPaymentByUserIdAndTransactionId(Long userId, String transactionId) {
-		TaxPayment taxPayment = taxPaymentRepository.findByUserUserIdAndTransactionId(userId, transactionId);
-
-		if (taxPayment == null) {
-			throw new ResourceNotFoundException(NO_DATA_FOUND);
-		}
-
-		return taxPayment;
+	public TaxPaymentDTO getTaxPaymentByUserIdAndTransactionId(Long userId, String transactionId) {
+		return taxPaymentRepository.findDetailsByUserIdAndTransactionId(userId, transactionId)
+				.orElseThrow(() -> new ResourceNotFoundException(NO_DATA_FOUND));
 	}
 
 	/**
@@ -144,12 +138,12 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 */
 	@Override
 	public TaxPayment payTaxAtRazorpay(Long userId, int isAmended) throws RazorpayException {
-		List<TaxPayment> taxPayments = taxPaymentRepository.findAllByUserUserId(userId);
 		TaxCalculation taxCalculation = taxCalculationRepository
 				.findByUserUserIdAndTaxYearAndIsAmended(userId, Year.now(), isAmended)
 				.orElseThrow(() -> new ResourceNotFoundException("No tax calculation found for user ID: " + userId));
 
-		TaxPayment taxPayment = taxPayments.stream().filter(tp -> PENDDING.equals(tp.getPaymentStatus())).findFirst()
+		TaxPayment taxPayment = taxPaymentRepository
+				.findFirstByUserUserIdAndPaymentStatusOrderByTaxPaymentIdAsc(userId, PaymentStatus.PENDING)
 				.orElseThrow(() -> new ResourceNotFoundException(NO_DATA_FOUND));
 
 		RazorpayClient razorpayClient = new RazorpayClient(apiKey, apiSecret);
@@ -160,9 +154,10 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 
 		Order order = razorpayClient.orders.create(orderRequest);
 		if (order != null) {
-			taxPayment.setPaymentStatus(PENDDING);
+			taxPayment.setPaymentStatus(PaymentStatus.PENDING);
 			taxPayment.setTransactionId(order.get("id").toString());
 			taxPayment.setTaxCalculation(taxCalculation);
+			replicaLagGuard.recordWrite(userId);
 			taxPaymentRepository.save(taxPayment);
 			return taxPayment;
 		} else {
@@ -178,46 +173,60 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 * @param paymentId         The payment ID received from Razorpay.
 	 * @param razorpaySignature The signature received from Razorpay for
 	 *                          verification.
-	 * @return "success" if the payment is verified, otherwise "failure".
-	 * @throws RazorpayException If payment verification fails.
+	 * @return "success" if the payment is verified, otherwise "failure", also when
+	 *         the payment is no longer pending.
+	 * @throws RazorpayException                 If payment verification fails.
+	 * @throws OptimisticLockingFailureException If concurrent updates of the
+	 *                                           payment outlast every retry.
 	 */
 	@Override
 	public String verifyPayment(String orderId, String paymentId, String razorpaySignature) throws RazorpayException {
 		String payload = orderId + '|' + paymentId;
 		boolean isValid = Utils.verifySignature(payload, razorpaySignature, apiSecret);
 
-		if (isValid) {
-			TaxPayment taxPayment = taxPaymentRepository.findByTransactionId(orderId);
-			if (taxPayment != null) {
-				taxPayment.setPaymentStatus("Completed");
-				taxPayment.setTransactionId(generateTransactionId());
-				taxPayment.setPaymentDate(LocalDate.now());
-				taxPaymentRepository.save(taxPayment);
-				return "success";
-			}
-		} else {
+		if (!isValid) {
 			throw new RazorpayException("Payment verification failed");
 		}
-		return "failure";
+
+		// Re-read, re-check that the payment is still pending and re-apply on a
+		// concurrent update of the payment
+		return optimisticLockRetry.run(() -> {
+			TaxPayment taxPayment = taxPaymentRepository.findByTransactionId(orderId);
+			if (taxPayment == null || taxPayment.getPaymentStatus() != PaymentStatus.PENDING) {
+				return "failure";
+			}
+			taxPayment.setPaymentStatus(PaymentStatus.COMPLETED);
+			taxPayment.setTransactionId(generateTransactionId());
+			taxPayment.setPaymentDate(LocalDate.now());
+			replicaLagGuard.recordWrite(taxPayment.getUser().getUserId());
+			taxPaymentRepository.save(taxPayment);
+			return "success";
+		});
 	}
 
 	/**
-	 * Fetches all "Completed" tax payments for a given user ID.
+	 * Fetches one page of the "Completed" tax payments for a given user ID, oldest
+	 * first.
 	 *
 	 * @param userId The ID of the user whose tax payments are to be fetched.
+	 * @param page   The zero-based page number.
+	 * @param size   The number of payments per page, at most 500.
 	 * @return A list of completed tax payments.
+	 * @throws InvalidRequestException   If the page or size is out of range.
 	 * @throws ResourceNotFoundException If no completed tax payments are found.
 	 */
 	@Override
-	public List<TaxPayment> getAllTaxPaymentByUserId(Long userId) {
-		List<TaxPayment> taxPayments = taxPaymentRepository.findAllByUserUserId(userId);
-
-		if (taxPayments.isEmpty()) {
-			throw new ResourceNotFoundException(NO_DATA_FOUND);
+	public List<TaxPaymentDTO> getAllTaxPaymentByUserId(Long userId, int page, int size) {
+		if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+			throw new InvalidRequestException(
+					"Page must not be negative and page size must be between 1 and " + MAX_PAGE_SIZE);
 		}
+		return getCompletedPayments(userId, PageRequest.of(page, size));
+	}
 
-		List<TaxPayment> completedPayments = taxPayments.stream()
-				.filter(tp -> "Completed".equals(tp.getPaymentStatus())).toList();
+	private List<TaxPaymentDTO> getCompletedPayments(Long userId, Pageable pageable) {
+		List<TaxPaymentDTO> completedPayments = taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(userId,
+				PaymentStatus.COMPLETED, pageable);
 
 		if (completedPayments.isEmpty()) {
 			throw new ResourceNotFoundException("No Tax Payments found without NULL transactionId!");
@@ -235,9 +244,10 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 */
 	@Override
 	public void createPayment(Long userId, BigDecimal amount) {
-		TaxPayment taxPayment = TaxPayment.builder().user(userMapper.toEntity(userService.getUserById(userId)))
-				.amountPaid(amount).paymentStatus(PENDDING).paymentDate(null).transactionId(null).build();
+		TaxPayment taxPayment = TaxPayment.builder().user(userService.getUserReference(userId))
+				.amountPaid(amount).paymentStatus(PaymentStatus.PENDING).paymentDate(null).transactionId(null).build();
 
+		replicaLagGuard.recordWrite(userId);
 		taxPaymentRepository.save(taxPayment); // Save the new tax payment record
 	}
 
@@ -255,7 +265,10 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	public byte[] downloadReceipt(Long userId, String transactionId) throws IOException, DocumentException {
 		// Fetch user and tax payment details
 		UserDTO user = userService.getUserById(userId);
-		TaxPayment taxPayment = getTaxPaymentByUserIdAndTransactionId(userId, transactionId);
+		TaxPayment taxPayment = taxPaymentRepository.findByUserUserIdAndTransactionId(userId, transactionId);
+		if (taxPayment == null) {
+			throw new ResourceNotFoundException(NO_DATA_FOUND);
+		}
 		TaxCalculation taxCalculation = taxPayment.getTaxCalculation();
 
 		try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
@@ -303,8 +316,8 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 */
 	public byte[] createTaxSummaryReport(Long userId) throws DocumentException, java.io.IOException {
 		// Fetch the data required for the report
-		List<Income> incomes = incomeService.getIncomesByYearAndUserId(userId, Year.now().getValue(), 0);
-		List<Deduction> deductions = deductionService.getDeductionsByYearAndUserId(userId, Year.now().getValue(), 0);
+		List<IncomeDTO> incomes = incomeService.getIncomesByYearAndUserId(userId, Year.now().getValue(), 0);
+		List<DeductionDTO> deductions = deductionService.getDeductionsByYearAndUserId(userId, Year.now().getValue(), 0);
 		UserDTO userDTO = userService.getUserById(userId);
 
 		TaxCalculation taxCalculation = taxCalculationRepository.findByUserUserId(userId)
@@ -312,7 +325,7 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 				.stream().filter(tc -> tc.getTaxYear().equals(Year.now()) && tc.getIsAmended() == 0).findFirst()
 				.orElse(null);
 
-		List<TaxPayment> payment = getAllTaxPaymentByUserId(userId);
+		List<TaxPaymentDTO> payment = getCompletedPayments(userId, Pageable.unpaged());
 
 		try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
 			// Create a new document in landscape mode (rotated letter size)
@@ -357,13 +370,15 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 * @throws DocumentException If an error occurs while processing the PDF
 	 *                           document.
 	 */
+	@Transactional(readOnly = true)
 	@Override
 	public byte[] generateTaxTranscript(Long userId) throws IOException, DocumentException {
+		replicaLagGuard.readFor(userId);
 		// Fetching necessary data from services for the user
-		List<Income> incomes = incomeService.getIncomesByYearAndUserId(userId, Year.now().getValue(), 0);
-		List<Deduction> deductions = deductionService.getDeductionsByYearAndUserId(userId, Year.now().getValue(), 0);
-		List<Income> amendmentIncomes = new ArrayList<>();
-		List<Deduction> amendmentDeductions = new ArrayList<>();
+		List<IncomeDTO> incomes = incomeService.getIncomesByYearAndUserId(userId, Year.now().getValue(), 0);
+		List<DeductionDTO> deductions = deductionService.getDeductionsByYearAndUserId(userId, Year.now().getValue(), 0);
+		List<IncomeDTO> amendmentIncomes = new ArrayList<>();
+		List<DeductionDTO> amendmentDeductions = new ArrayList<>();
 
 		UserDTO userDTO = userService.getUserById(userId);
 		List<TaxCalculation> taxCalculations = taxCalculationRepository.findByUserUserId(userId)
@@ -388,7 +403,7 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 		}
 
 		// Fetch filing and payment history
-		List<TaxPayment> taxPayments = getAllTaxPaymentByUserId(userId);
+		List<TaxPaymentDTO> taxPayments = getCompletedPayments(userId, Pageable.unpaged());
 
 		// Prepare the PDF output stream
 		try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
@@ -674,7 +689,7 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 * @param taxCalculation The tax calculation details.
 	 * @throws DocumentException If an error occurs while adding income details.
 	 */
-	private void addIncomeDetails(Document document, List<Income> incomes, TaxCalculation taxCalculation)
+	private void addIncomeDetails(Document document, List<IncomeDTO> incomes, TaxCalculation taxCalculation)
 			throws DocumentException {
 		document.add(new Paragraph("Section A: Income Details", FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12)));
 
@@ -682,7 +697,7 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 		table.setWidthPercentage(100);
 
 		// Adding income data for each income source
-		for (Income income : incomes) {
+		for (IncomeDTO income : incomes) {
 			addTableRow(table, income.getIncomeSource(), income.getAmount().toString());
 		}
 		addTableRow(table, GROSS_INCOME, taxCalculation.getGrossIncome().toString());
@@ -699,7 +714,7 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 * @param taxCalculation The tax calculation details.
 	 * @throws DocumentException If an error occurs while adding deduction details.
 	 */
-	private void addDeductionDetails(Document document, List<Deduction> deductions, TaxCalculation taxCalculation)
+	private void addDeductionDetails(Document document, List<DeductionDTO> deductions, TaxCalculation taxCalculation)
 			throws DocumentException {
 		document.add(new Paragraph("Section B: Deductions", FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12)));
 
@@ -707,7 +722,7 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 		table.setWidthPercentage(100);
 
 		// Adding deduction data for each deduction type
-		for (Deduction deduction : deductions) {
+		for (DeductionDTO deduction : deductions) {
 			addTableRow(table, deduction.getDeductionType(), deduction.getAmount().toString());
 		}
 		addTableRow(table, TOTAL_DEDUCTIONS, taxCalculation.getDeductions().toString());
@@ -767,10 +782,10 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 * @param payments The list of tax payments.
 	 * @throws DocumentException If an error occurs while adding payment details.
 	 */
-	private void addPaymentDetails(Document document, List<TaxPayment> payments) throws DocumentException {
+	private void addPaymentDetails(Document document, List<TaxPaymentDTO> payments) throws DocumentException {
 		document.add(new Paragraph("Section E: Payment Details", FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12)));
 		// Filter payments to only include those after January 1, 2025
-		TaxPayment payment = payments.stream().filter(p -> p.getPaymentDate().isAfter(LocalDate.of(2025, 01, 01)))
+		TaxPaymentDTO payment = payments.stream().filter(p -> p.getPaymentDate().isAfter(LocalDate.of(2025, 01, 01)))
 				.toList().get(0);
 
 		PdfPTable table = new PdfPTable(3);
@@ -845,13 +860,13 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 * @throws DocumentException If there is an error adding content to the
 	 *                           document.
 	 */
-	private void addAmendmentSection(Document document, List<Income> amendmentIncomes,
-			List<Deduction> amendmentDeductions, TaxCalculation amendmentTaxCalculation) throws DocumentException {
+	private void addAmendmentSection(Document document, List<IncomeDTO> amendmentIncomes,
+			List<DeductionDTO> amendmentDeductions, TaxCalculation amendmentTaxCalculation) throws DocumentException {
 		addSectionHeader(document, "Amendment Summary");
 
 		PdfPTable table = createTable(2);
 		addSectionHeader(document, "Incomes : Section - A-i");
-		for (Income income : amendmentIncomes) {
+		for (IncomeDTO income : amendmentIncomes) {
 			addTableRow(table, "Income Source: " + income.getIncomeSource(), income.getAmount().toString());
 		}
 		addTableRow(table, GROSS_INCOME, String.valueOf(amendmentTaxCalculation.getGrossIncome()));
@@ -859,7 +874,7 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 
 		table = createTable(2);
 		addSectionHeader(document, "Deductions : Section - B-i");
-		for (Deduction deduction : amendmentDeductions) {
+		for (DeductionDTO deduction : amendmentDeductions) {
 			addTableRow(table, "Deduction Type: " + deduction.getDeductionType(), deduction.getAmount().toString());
 		}
 		addTableRow(table, TOTAL_DEDUCTIONS, String.valueOf(amendmentTaxCalculation.getDeductions()));
@@ -977,7 +992,7 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 * @throws DocumentException If there is an error adding content to the
 	 *                           document.
 	 */
-	protected void generateIncomeDetails(Document document, List<Income> incomes, TaxCalculation taxCalculation)
+	protected void generateIncomeDetails(Document document, List<IncomeDTO> incomes, TaxCalculation taxCalculation)
 			throws DocumentException {
 		// Adds income details table to the document
 		document.add(new Paragraph("Income Details", FontFactory.getFont(FontFactory.COURIER_BOLD, 14)));
@@ -985,7 +1000,7 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 		PdfPTable incomeTable = new PdfPTable(2);
 		incomeTable.setWidths(new float[] { 2, 1 });
 		incomeTable.setWidthPercentage(100);
-		for (Income income : incomes) {
+		for (IncomeDTO income : incomes) {
 			addTableRow2(incomeTable,
 					"Income Source: " + (income.getIncomeSource() != null ? income.getIncomeSource() : "N/A"),
 					income.getAmount() != null ? income.getAmount().toString() : "0");
@@ -1005,7 +1020,7 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 * @throws DocumentException If there is an error adding content to the
 	 *                           document.
 	 */
-	private void generateDeductionDetails(Document document, List<Deduction> deductions, TaxCalculation taxCalculation)
+	private void generateDeductionDetails(Document document, List<DeductionDTO> deductions, TaxCalculation taxCalculation)
 			throws DocumentException {
 		// Adds deduction details table to the document
 		document.add(new Paragraph("Deductions Details", FontFactory.getFont(FontFactory.COURIER_BOLD, 14)));
@@ -1013,7 +1028,7 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 		PdfPTable deductionTable = new PdfPTable(2);
 		deductionTable.setWidths(new float[] { 2, 1 });
 		deductionTable.setWidthPercentage(100);
-		for (Deduction deduction : deductions) {
+		for (DeductionDTO deduction : deductions) {
 			addTableRow2(deductionTable,
 					"Deduction Type: " + (deduction.getDeductionType() != null ? deduction.getDeductionType() : "N/A"),
 					deduction.getAmount() != null ? deduction.getAmount().toString() : "0");
@@ -1058,8 +1073,8 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 * @throws DocumentException If there is an error adding content to the
 	 *                           document.
 	 */
-	private void generateAmendmentDetails(Document document, List<Income> amendmentIncomes,
-			List<Deduction> amendmentDeductions, TaxCalculation amendmentTaxCalculation) throws DocumentException {
+	private void generateAmendmentDetails(Document document, List<IncomeDTO> amendmentIncomes,
+			List<DeductionDTO> amendmentDeductions, TaxCalculation amendmentTaxCalculation) throws DocumentException {
 		// Generate amendment details table if there are any amendments
 		document.add(new Paragraph("Amendment Details", FontFactory.getFont(FontFactory.COURIER_BOLD, 14)));
 		document.add(new Chunk());
@@ -1078,14 +1093,14 @@ public class TaxPaymentServiceImpl implements TaxPaymentService {
 	 * @throws DocumentException If there is an error adding content to the
 	 *                           document.
 	 */
-	private void generatePaymentHistory(Document document, List<TaxPayment> taxPayments) throws DocumentException {
+	private void generatePaymentHistory(Document document, List<TaxPaymentDTO> taxPayments) throws DocumentException {
 		// Adds payment history details table to the document
 		document.add(new Paragraph("Payment History", FontFactory.getFont(FontFactory.COURIER_BOLD, 14)));
 		document.add(new Chunk());
 		PdfPTable paymentTable = new PdfPTable(2);
 		paymentTable.setWidths(new float[] { 2, 1 });
 		paymentTable.setWidthPercentage(100);
-		for (TaxPayment payment : taxPayments) {
+		for (TaxPaymentDTO payment : taxPayments) {
 			addTableRow2(paymentTable, "Payment Date:",
 					payment.getPaymentDate() != null ? payment.getPaymentDate().toString() : "N/A");
 			addTableRow2(paymentTable, "Payment Amount:",
@@ -0,0 +1,234 @@
+package com.gov.tax.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.gov.tax.dto.BulkTaxCalculationDTO;
+import com.gov.tax.dto.TaxRecalculationStatusDTO;
+import com.gov.tax.exception.ResourceAlreadyExistsException;
+import com.gov.tax.repository.UserRepository;
+import com.gov.tax.service.TaxCalculationService;
+import com.gov.tax.service.TaxRecalculationService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Recomputes the tax calculations of every user for a year. User IDs are read
+ * in keyset-paged chunks and each page is handed to the bulk calculation on a
+ * fork/join pool, with at most {@code parallelism} pages in flight.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaxRecalculationServiceImpl implements TaxRecalculationService {
+
+	private static final Logger logger = LoggerFactory.getLogger(TaxRecalculationServiceImpl.class);
+
+	private static final String IDLE = "Idle";
+	private static final String RUNNING = "Running";
+	private static final String COMPLETED = "Completed";
+	private static final String FAILED = "Failed";
+	private static final String USERS_METRIC = "tax.recalculation.users";
+
+	private final UserRepository userRepository;
+	private final TaxCalculationService taxCalculationService;
+	private final MeterRegistry meterRegistry;
+
+	private final AtomicReference<RecalculationRun> currentRun = new AtomicReference<>();
+
+	@Value("${tax.recalculation.page-size:1000}")
+	private int pageSize;
+
+	@Value("${tax.recalculation.parallelism:4}")
+	private int parallelism;
+
+	private ExecutorService coordinator;
+	private ForkJoinPool workers;
+	private Timer pageTimer;
+
+	@PostConstruct
+	void startExecutors() {
+		coordinator = Executors.newSingleThreadExecutor();
+		workers = new ForkJoinPool(parallelism);
+		pageTimer = meterRegistry.timer("tax.recalculation.page");
+		Gauge.builder("tax.recalculation.processed", currentRun,
+				run -> run.get() == null ? 0 : run.get().processedUsers.get()).register(meterRegistry);
+		Gauge.builder("tax.recalculation.throughput", currentRun,
+				run -> run.get() == null ? 0 : run.get().usersPerSecond()).baseUnit("users/s").register(meterRegistry);
+	}
+
+	@PreDestroy
+	void stopExecutors() {
+		coordinator.shutdownNow();
+		workers.shutdownNow();
+	}
+
+	/**
+	 * Starts recomputing the tax calculations of every user for a year in the
+	 * background.
+	 *
+	 * @param year The tax year.
+	 * @return The status of the started run.
+	 * @throws ResourceAlreadyExistsException if a run is already in progress.
+	 */
+	@Override
+	public TaxRecalculationStatusDTO startRecalculation(int year) {
+		RecalculationRun run = new RecalculationRun(year);
+		RecalculationRun previous = currentRun.get();
+		if ((previous != null && RUNNING.equals(previous.status)) || !currentRun.compareAndSet(previous, run)) {
+			throw new ResourceAlreadyExistsException("A tax recalculation is already running");
+		}
+		logger.info("Starting tax recalculation for {}", year);
+		coordinator.execute(() -> recalculate(run));
+		return run.toStatus();
+	}
+
+	/**
+	 * Retrieves the progress of the current or last recalculation run.
+	 *
+	 * @return The run status, or an idle status if no run was started.
+	 */
+	@Override
+	public TaxRecalculationStatusDTO getStatus() {
+		RecalculationRun run = currentRun.get();
+		return run == null ? TaxRecalculationStatusDTO.builder().status(IDLE).build() : run.toStatus();
+	}
+
+	/**
+	 * Recomputes the current year on the configured schedule, unless a run is
+	 * already in progress.
+	 */
+	@Scheduled(cron = "${tax.recalculation.cron:-}")
+	public void scheduledRecalculation() {
+		try {
+			startRecalculation(Year.now().getValue());
+		} catch (ResourceAlreadyExistsException e) {
+			logger.warn("Skipping scheduled tax recalculation: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Pages through all user IDs and submits each page to the worker pool,
+	 * waiting for a free slot before reading the next page.
+	 */
+	private void recalculate(RecalculationRun run) {
+		Semaphore inFlight = new Semaphore(parallelism);
+		try {
+			Long lastUserId = 0L;
+			List<Long> userIds;
+			while (!(userIds = userRepository.findUserIdsAfter(lastUserId, PageRequest.of(0, pageSize))).isEmpty()) {
+				lastUserId = userIds.get(userIds.size() - 1);
+				Set<Long> page = new LinkedHashSet<>(userIds);
+				inFlight.acquire();
+				workers.execute(() -> {
+					try {
+						recalculatePage(run, page);
+					} finally {
+						inFlight.release();
+					}
+				});
+			}
+			// every permit is back once the last page has finished
+			inFlight.acquire(parallelism);
+			run.finish(COMPLETED);
+			logger.info("Tax recalculation for {} completed: {}", run.taxYear, run.toStatus());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			run.lastError = "Recalculation was interrupted";
+			run.finish(FAILED);
+		} catch (RuntimeException e) {
+			logger.error("Tax recalculation for {} failed", run.taxYear, e);
+			run.lastError = e.getMessage();
+			run.finish(FAILED);
+		}
+	}
+
+	/**
+	 * Recomputes one page of users, counting the whole page as failed if the bulk
+	 * calculation throws.
+	 */
+	private void recalculatePage(RecalculationRun run, Set<Long> userIds) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			BulkTaxCalculationDTO result = taxCalculationService.calculateTaxLiabilityInBulk(run.taxYear, userIds);
+			run.created.addAndGet(result.getCreated());
+			run.updated.addAndGet(result.getUpdated());
+			run.skipped.addAndGet(result.getSkipped());
+			meterRegistry.counter(USERS_METRIC, "outcome", "created").increment(result.getCreated());
+			meterRegistry.counter(USERS_METRIC, "outcome", "updated").increment(result.getUpdated());
+			meterRegistry.counter(USERS_METRIC, "outcome", "skipped").increment(result.getSkipped());
+		} catch (RuntimeException e) {
+			logger.error("Tax recalculation page starting at user {} failed", userIds.iterator().next(), e);
+			run.failedUsers.addAndGet(userIds.size());
+			run.failedPages.incrementAndGet();
+			run.lastError = e.getMessage();
+			meterRegistry.counter(USERS_METRIC, "outcome", "failed").increment(userIds.size());
+		} finally {
+			run.processedUsers.addAndGet(userIds.size());
+			sample.stop(pageTimer);
+		}
+	}
+
+	/**
+	 * Progress counters of a single recalculation run, updated by the worker
+	 * threads.
+	 */
+	private static final class RecalculationRun {
+		private final int taxYear;
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final long startNanos = System.nanoTime();
+		private final AtomicLong processedUsers = new AtomicLong();
+		private final AtomicLong created = new AtomicLong();
+		private final AtomicLong updated = new AtomicLong();
+		private final AtomicLong skipped = new AtomicLong();
+		private final AtomicLong failedUsers = new AtomicLong();
+		private final AtomicLong failedPages = new AtomicLong();
+		private volatile String status = RUNNING;
+		private volatile LocalDateTime finishedAt;
+		private volatile long finishNanos;
+		private volatile String lastError;
+
+		private RecalculationRun(int taxYear) {
+			this.taxYear = taxYear;
+		}
+
+		private void finish(String finalStatus) {
+			finishNanos = System.nanoTime();
+			finishedAt = LocalDateTime.now();
+			status = finalStatus;
+		}
+
+		private double usersPerSecond() {
+			long endNanos = finishedAt == null ? System.nanoTime() : finishNanos;
+			double seconds = (endNanos - startNanos) / 1_000_000_000d;
+			return seconds <= 0 ? 0 : processedUsers.get() / seconds;
+		}
+
+		private TaxRecalculationStatusDTO toStatus() {
+			return TaxRecalculationStatusDTO.builder().taxYear(taxYear).status(status).startedAt(startedAt)
+					.finishedAt(finishedAt).processedUsers(processedUsers.get()).created(created.get())
+					.updated(updated.get()).skipped(skipped.get()).failedUsers(failedUsers.get())
+					.failedPages(failedPages.get()).usersPerSecond(usersPerSecond()).lastError(lastError).build();
+		}
+	}
+}
@@ -6,12 +6,14 @@ import java.time.LocalDate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import com.gov.tax.dto.RefundStatusUpdateRequest;
 import com.gov.tax.entity.TaxRefund;
+import com.gov.tax.exception.InvalidRequestException;
+import com.gov.tax.exception.ResourceConflictException;
 import com.gov.tax.exception.ResourceNotFoundException;
-import com.gov.tax.mapper.UserMapper;
 import com.gov.tax.repository.TaxRefundRepository;
 import com.gov.tax.service.TaxRefundService;
 import com.gov.tax.service.UserService;
@@ -42,8 +44,8 @@ import lombok.RequiredArgsConstructor;
 public class TaxRefundServiceImpl implements TaxRefundService {
 
 	private final TaxRefundRepository taxRefundRepository;
-	private final UserMapper userMapper;
 	private final UserService userService;
+	private final OptimisticLockRetry optimisticLockRetry;
 	private static final Logger logger = LoggerFactory.getLogger(TaxRefundServiceImpl.class);
 
 	/**
@@ -75,18 +77,36 @@ public class TaxRefundServiceImpl implements TaxRefundService {
 	}
 
 	/**
-	 * Updates the refund status of a user's tax refund.
+	 * Updates the refund status of a user's tax refund, provided the refund is
+	 * still in the status the client expects.
 	 *
 	 * @param userId  The ID of the user whose refund status is being updated.
-	 * @param request The request object containing the new refund status.
+	 * @param request The request object containing the new and the expected
+	 *                refund status.
 	 * @return The updated TaxRefund entity.
-	 * @throws ResourceNotFoundException if no tax refund exists for the user.
+	 * @throws InvalidRequestException           if the expected status is missing.
+	 * @throws ResourceNotFoundException         if no tax refund exists for the
+	 *                                           user.
+	 * @throws ResourceConflictException         if the refund is no longer in
+	 *                                           the expected status.
+	 * @throws OptimisticLockingFailureException if concurrent updates of the
+	 *                                           refund outlast every retry.
 	 */
 	@Override
 	public TaxRefund updateRefundStatus(Long userId, RefundStatusUpdateRequest request) {
-		TaxRefund taxRefund = getTaxRefund(userId);
-		updateRefundStatus(taxRefund, request);
-		return taxRefundRepository.save(taxRefund);
+		if (request.getExpectedStatus() == null) {
+			throw new InvalidRequestException("Expected refund status is required");
+		}
+		// Re-read, re-check the expected status and re-apply on a concurrent update
+		return optimisticLockRetry.run(() -> {
+			TaxRefund taxRefund = getTaxRefund(userId);
+			if (!request.getExpectedStatus().equals(taxRefund.getRefundStatus())) {
+				throw new ResourceConflictException("Tax refund is " + taxRefund.getRefundStatus() + ", expected "
+						+ request.getExpectedStatus());
+			}
+			updateRefundStatus(taxRefund, request);
+			return taxRefundRepository.save(taxRefund);
+		});
 	}
 
 	/**
@@ -111,7 +131,7 @@ public class TaxRefundServiceImpl implements TaxRefundService {
 	 * @return The newly created TaxRefund entity.
 	 */
 	private TaxRefund createTaxRefund(Long userId, BigDecimal refundAmount) {
-		return TaxRefund.builder().user(userMapper.toEntity(userService.getUserById(userId))).refundAmount(refundAmount)
+		return TaxRefund.builder().user(userService.getUserReference(userId)).refundAmount(refundAmount)
 				.refundStatus("Pending").refundDate(LocalDate.now()).build();
 	}
 
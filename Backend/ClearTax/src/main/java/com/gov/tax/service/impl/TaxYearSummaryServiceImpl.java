@@ -0,0 +1,167 @@
+package com.gov.tax.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gov.tax.config.ReplicaLagGuard;
+import com.gov.tax.dto.TaxYearTotalsDTO;
+import com.gov.tax.entity.TaxYearSummary;
+import com.gov.tax.exception.ResourceNotFoundException;
+import com.gov.tax.repository.DeductionRepository;
+import com.gov.tax.repository.IncomeRepository;
+import com.gov.tax.repository.TaxYearSummaryInsertRepository;
+import com.gov.tax.repository.TaxYearSummaryRepository;
+import com.gov.tax.repository.UserRepository;
+import com.gov.tax.repository.projection.AmountSummary;
+import com.gov.tax.service.TaxYearSummaryService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TaxYearSummaryServiceImpl implements TaxYearSummaryService {
+
+	private static final int[] AMENDMENT_STATUSES = { 0, 1 };
+
+	private final TaxYearSummaryRepository taxYearSummaryRepository;
+	private final TaxYearSummaryInsertRepository taxYearSummaryInsertRepository;
+	private final IncomeRepository incomeRepository;
+	private final DeductionRepository deductionRepository;
+	private final UserRepository userRepository;
+	private final ReplicaLagGuard replicaLagGuard;
+
+	/**
+	 * Applies the net income change of a transaction to the user's totals for the
+	 * income's tax year. The change must already be written and must be recorded
+	 * once per tax year and amendment status. A summary that does not exist yet
+	 * is built from the stored incomes, which already include the change, so the
+	 * change is not applied on top of it.
+	 * 
+	 * @param userId     The ID of the user.
+	 * @param incomeDate The date of the income.
+	 * @param isAmended  Amendment status of the income.
+	 * @param amount     The amount added (negative when removed).
+	 * @param count      The number of incomes added (negative when removed).
+	 */
+	@Transactional
+	@Override
+	public void recordIncomeChange(Long userId, LocalDate incomeDate, int isAmended, BigDecimal amount, long count) {
+		Year taxYear = Year.from(incomeDate);
+		if (taxYearSummaryRepository.addIncome(userId, taxYear, isAmended, amount, count) == 0
+				&& !createSummary(userId, taxYear, isAmended)) {
+			// a concurrent first write built the summary without this change
+			taxYearSummaryRepository.addIncome(userId, taxYear, isAmended, amount, count);
+		}
+	}
+
+	/**
+	 * Applies the net deduction change of a transaction to the user's totals for
+	 * the deduction's tax year. The change must already be written and must be
+	 * recorded once per tax year and amendment status. A summary that does not
+	 * exist yet is built from the stored deductions, which already include the
+	 * change, so the change is not applied on top of it.
+	 * 
+	 * @param userId        The ID of the user.
+	 * @param deductionDate The date of the deduction.
+	 * @param isAmended     Amendment status of the deduction.
+	 * @param amount        The amount added (negative when removed).
+	 * @param count         The number of deductions added (negative when
+	 *                      removed).
+	 */
+	@Transactional
+	@Override
+	public void recordDeductionChange(Long userId, LocalDate deductionDate, int isAmended, BigDecimal amount,
+			long count) {
+		Year taxYear = Year.from(deductionDate);
+		if (taxYearSummaryRepository.addDeduction(userId, taxYear, isAmended, amount, count) == 0
+				&& !createSummary(userId, taxYear, isAmended)) {
+			// a concurrent first write built the summary without this change
+			taxYearSummaryRepository.addDeduction(userId, taxYear, isAmended, amount, count);
+		}
+	}
+
+	/**
+	 * Resets the income totals of a user for a year once all of its incomes are
+	 * deleted.
+	 * 
+	 * @param userId The ID of the user.
+	 * @param year   The tax year.
+	 */
+	@Transactional
+	@Override
+	public void clearIncomes(Long userId, int year) {
+		taxYearSummaryRepository.clearIncome(userId, Year.of(year));
+	}
+
+	/**
+	 * Retrieves the combined income and deduction totals of a user for a year
+	 * across amendment statuses. Totals without a summary are read from the line
+	 * items and not stored.
+	 * 
+	 * @param userId The ID of the user.
+	 * @param year   The tax year.
+	 * @return The totals for the year.
+	 * @throws ResourceNotFoundException If the user does not exist.
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public TaxYearTotalsDTO getTotals(Long userId, int year) {
+		replicaLagGuard.readFor(userId);
+		Year taxYear = Year.of(year);
+		List<TaxYearSummary> summaries = new ArrayList<>(
+				taxYearSummaryRepository.findByUserUserIdAndTaxYear(userId, taxYear));
+		if (summaries.isEmpty() && !userRepository.existsById(userId)) {
+			throw new ResourceNotFoundException("User not found");
+		}
+		for (int isAmended : AMENDMENT_STATUSES) {
+			if (summaries.stream().noneMatch(summary -> summary.getIsAmended() == isAmended)) {
+				summaries.add(summarize(userId, taxYear, isAmended));
+			}
+		}
+
+		TaxYearTotalsDTO totals = TaxYearTotalsDTO.builder().userId(userId).taxYear(year)
+				.grossIncome(BigDecimal.ZERO).totalDeductions(BigDecimal.ZERO).build();
+		for (TaxYearSummary summary : summaries) {
+			totals.setGrossIncome(totals.getGrossIncome().add(summary.getGrossIncome()));
+			totals.setIncomeCount(totals.getIncomeCount() + summary.getIncomeCount());
+			totals.setTotalDeductions(totals.getTotalDeductions().add(summary.getTotalDeductions()));
+			totals.setDeductionCount(totals.getDeductionCount() + summary.getDeductionCount());
+		}
+		return totals;
+	}
+
+	/**
+	 * Stores the summary row for a user, year and amendment status as the stored
+	 * line items add up now.
+	 * 
+	 * @return true if the row was created, false if a concurrent write created it
+	 *         first.
+	 */
+	private boolean createSummary(Long userId, Year taxYear, int isAmended) {
+		// make pending line item changes visible to the aggregate queries
+		taxYearSummaryRepository.flush();
+		TaxYearSummary summary = summarize(userId, taxYear, isAmended);
+		summary.setUser(userRepository.getReferenceById(userId));
+		return taxYearSummaryInsertRepository.insertIfAbsent(summary);
+	}
+
+	/**
+	 * Adds up the stored line items of a user for a year and amendment status,
+	 * without storing the result.
+	 */
+	private TaxYearSummary summarize(Long userId, Year taxYear, int isAmended) {
+		AmountSummary incomes = incomeRepository.summarizeByUserUserIdAndTaxYearAndIsAmended(userId, taxYear,
+				isAmended);
+		AmountSummary deductions = deductionRepository.summarizeByUserUserIdAndTaxYearAndIsAmended(userId,
+				taxYear, isAmended);
+		return TaxYearSummary.builder().taxYear(taxYear).isAmended(isAmended).grossIncome(incomes.total())
+				.incomeCount(incomes.count()).totalDeductions(deductions.total()).deductionCount(deductions.count())
+				.build();
+	}
+}
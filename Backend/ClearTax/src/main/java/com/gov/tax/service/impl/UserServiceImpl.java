@@ -2,15 +2,20 @@ package com.gov.tax.service.impl;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.gov.tax.dto.RegisterUserDTO;
 import com.gov.tax.dto.UpdateUserDTO;
 import com.gov.tax.dto.UserDTO;
+import com.gov.tax.dto.UserPageDTO;
 import com.gov.tax.entity.User;
+import com.gov.tax.exception.InvalidRequestException;
 import com.gov.tax.exception.ResourceAlreadyExistsException;
 import com.gov.tax.exception.ResourceNotChnagedException;
 import com.gov.tax.exception.ResourceNotFoundException;
@@ -18,6 +23,7 @@ import com.gov.tax.mapper.UserMapper;
 import com.gov.tax.repository.UserRepository;
 import com.gov.tax.service.UserService;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -25,9 +31,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+	private static final int MAX_PAGE_SIZE = 500;
+	private static final int STREAM_CHUNK_SIZE = 500;
+
 	private final UserRepository userRepository;
 	private final UserMapper userMapper;
 	private final PasswordEncoder passwordEncoder;
+	private final EntityManagerFactory entityManagerFactory;
 
 	/**
 	 * Retrieves user details by user ID.
@@ -43,6 +53,23 @@ public class UserServiceImpl implements UserService {
 		return userMapper.toDTO(user);
 	}
 
+	/**
+	 * Returns a reference to a user for setting the user of a row being written.
+	 * The user is not loaded: a user held in the second-level cache is known to
+	 * exist, any other is checked with an existence query on the primary key.
+	 *
+	 * @param userId The ID of the user.
+	 * @return An unloaded reference to the user.
+	 * @throws ResourceNotFoundException if the user is not found.
+	 */
+	@Override
+	public User getUserReference(Long userId) {
+		if (!entityManagerFactory.getCache().contains(User.class, userId) && !userRepository.existsById(userId)) {
+			throw new ResourceNotFoundException("User not found with ID: " + userId);
+		}
+		return userRepository.getReferenceById(userId);
+	}
+
 	/**
 	 * Creates a new user based on the provided registration details.
 	 *
@@ -71,13 +98,56 @@ public class UserServiceImpl implements UserService {
 	}
 
 	/**
-	 * Retrieves a list of all users.
+	 * Retrieves one keyset page of users ordered by ID, optionally filtered by
+	 * role and creation date.
 	 *
-	 * @return A list of {@link UserDTO} containing all users.
+	 * @param afterUserId Only users with a greater ID are returned; null for the
+	 *                    first page.
+	 * @param size        The maximum number of users in the page.
+	 * @param userRole    The role to filter by, or null for all roles.
+	 * @param createdFrom Inclusive lower bound of the creation date, or null.
+	 * @param createdTo   Exclusive upper bound of the creation date, or null.
+	 * @return The users of the page and the cursor of the next one.
+	 * @throws InvalidRequestException if the page size is out of range.
 	 */
+	@Transactional(readOnly = true)
 	@Override
-	public List<UserDTO> getAllUsers() {
-		return userRepository.findAll().stream().map(userMapper::toDTO).toList();
+	public UserPageDTO getUsers(Long afterUserId, int size, String userRole, LocalDateTime createdFrom,
+			LocalDateTime createdTo) {
+		if (size < 1 || size > MAX_PAGE_SIZE) {
+			throw new InvalidRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+		}
+		// read one extra row to learn whether another page follows
+		List<UserDTO> users = userRepository.findUsersAfter(afterUserId == null ? 0L : afterUserId, userRole,
+				createdFrom, createdTo, PageRequest.of(0, size + 1));
+		if (users.size() <= size) {
+			return UserPageDTO.builder().users(users).build();
+		}
+		List<UserDTO> page = users.subList(0, size);
+		return UserPageDTO.builder().users(page).nextCursor(page.get(size - 1).getUserId()).build();
+	}
+
+	/**
+	 * Passes every matching user to the given action, reading them in keyset
+	 * chunks so that the full list is never held in memory. Each chunk is read by
+	 * its own short query and no transaction spans the action, so a slow reader
+	 * of a streamed response never holds a pooled connection.
+	 *
+	 * @param userRole    The role to filter by, or null for all roles.
+	 * @param createdFrom Inclusive lower bound of the creation date, or null.
+	 * @param createdTo   Exclusive upper bound of the creation date, or null.
+	 * @param action      The action applied to each user, in ID order.
+	 */
+	@Override
+	public void forEachUser(String userRole, LocalDateTime createdFrom, LocalDateTime createdTo,
+			Consumer<UserDTO> action) {
+		long lastUserId = 0L;
+		List<UserDTO> users;
+		while (!(users = userRepository.findUsersAfter(lastUserId, userRole, createdFrom, createdTo,
+				PageRequest.of(0, STREAM_CHUNK_SIZE))).isEmpty()) {
+			users.forEach(action);
+			lastUserId = users.get(users.size() - 1).getUserId();
+		}
 	}
 
 	/**
@@ -106,6 +176,9 @@ public class UserServiceImpl implements UserService {
 		// Update the user details
 		updateUserDetails(existingUser, updateUserDTO);
 		User updatedUser = userRepository.save(existingUser);
+
+		// Drop the second-level cache entry so lookups by ID read the new profile
+		entityManagerFactory.getCache().evict(User.class, updatedUser.getUserId());
 		return userMapper.toDTO(updatedUser);
 	}
 
@@ -0,0 +1,76 @@
+package com.gov.tax.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class HikariPoolSettingsValidatorTest {
+
+	private final HikariPoolSettingsValidator validator = new HikariPoolSettingsValidator();
+
+	private HikariDataSource dataSource;
+
+	@BeforeEach
+	void setUp() {
+		// mirrors the defaults in application.properties; the pool starts only on first use
+		dataSource = new HikariDataSource();
+		dataSource.setPoolName("ClearTaxPool");
+		dataSource.setMaximumPoolSize(20);
+		dataSource.setMinimumIdle(10);
+		dataSource.setConnectionTimeout(10000);
+		dataSource.setValidationTimeout(3000);
+		dataSource.setIdleTimeout(600000);
+		dataSource.setMaxLifetime(1800000);
+		dataSource.setKeepaliveTime(300000);
+	}
+
+	@Test
+	void testValidate_DefaultSettings() {
+		assertTrue(HikariPoolSettingsValidator.validate(dataSource).isEmpty());
+		assertSame(dataSource, validator.postProcessAfterInitialization(dataSource, "dataSource"));
+	}
+
+	@Test
+	void testValidate_MinimumIdleAboveMaximumPoolSize() {
+		dataSource.setMinimumIdle(30);
+
+		List<String> problems = HikariPoolSettingsValidator.validate(dataSource);
+
+		assertEquals(List.of("minimum-idle (30) exceeds maximum-pool-size (20)"), problems);
+	}
+
+	@Test
+	void testValidate_TimeoutsOutOfOrder() {
+		dataSource.setValidationTimeout(10000);
+		dataSource.setIdleTimeout(1800000);
+		dataSource.setKeepaliveTime(1800000);
+		dataSource.setLeakDetectionThreshold(1000);
+
+		assertEquals(4, HikariPoolSettingsValidator.validate(dataSource).size());
+	}
+
+	@Test
+	void testPostProcess_FailsStartupOnInvalidPool() {
+		dataSource.setMinimumIdle(30);
+
+		IllegalStateException exception = assertThrows(IllegalStateException.class,
+				() -> validator.postProcessAfterInitialization(dataSource, "dataSource"));
+
+		assertTrue(exception.getMessage().startsWith("Invalid connection pool settings for ClearTaxPool"));
+	}
+
+	@Test
+	void testPostProcess_IgnoresOtherBeans() {
+		Object bean = new Object();
+
+		assertSame(bean, validator.postProcessAfterInitialization(bean, "other"));
+	}
+}
@@ -0,0 +1,148 @@
+package com.gov.tax.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReadReplicaRoutingDataSourceTest {
+
+	private static final String SERVICE_READ = ReadReplicaRoutingDataSource.SERVICE_PACKAGE
+			+ "impl.TaxFillingServiceImpl.getTaxFillingHistory";
+	private static final String REPOSITORY_READ = "org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById";
+
+	private EmbeddedDatabase primary;
+	private EmbeddedDatabase replica;
+
+	@BeforeEach
+	void setUp() {
+		primary = embeddedDatabase("primary");
+		replica = embeddedDatabase("replica");
+	}
+
+	@AfterEach
+	void tearDown() {
+		primary.shutdown();
+		replica.shutdown();
+	}
+
+	@Test
+	void testReadOnlyServiceTransaction_UsesReplica() {
+		DataSource dataSource = routing(replica, Duration.ZERO);
+
+		assertEquals("replica", serverName(dataSource, SERVICE_READ, true));
+	}
+
+	@Test
+	void testReadWriteTransaction_UsesPrimary() {
+		DataSource dataSource = routing(replica, Duration.ZERO);
+
+		assertEquals("primary", serverName(dataSource, SERVICE_READ, false));
+	}
+
+	@Test
+	void testReadOnlyRepositoryTransaction_UsesPrimary() {
+		DataSource dataSource = routing(replica, Duration.ZERO);
+
+		assertEquals("primary", serverName(dataSource, REPOSITORY_READ, true));
+	}
+
+	@Test
+	void testNoTransaction_UsesPrimary() {
+		DataSource dataSource = routing(replica, Duration.ZERO);
+
+		assertEquals("primary", new JdbcTemplate(dataSource).queryForObject("SELECT name FROM server", String.class));
+	}
+
+	@Test
+	void testReadOfRecentlyChangedUser_UsesPrimaryWithinMaxLag() {
+		ReplicaLagGuard lagGuard = new ReplicaLagGuard(Duration.ofMinutes(1));
+		DataSource dataSource = routing(replica, lagGuard);
+
+		// an admin job changing user 1 records the user, not the admin
+		new TransactionTemplate(new DataSourceTransactionManager(dataSource))
+				.executeWithoutResult(status -> lagGuard.recordWrite(1L));
+
+		assertEquals("primary", serverName(dataSource, SERVICE_READ, true, lagGuard, 1L));
+		// other users and reads declaring no user are still served by the replica
+		assertEquals("replica", serverName(dataSource, SERVICE_READ, true, lagGuard, 2L));
+		assertEquals("replica", serverName(dataSource, SERVICE_READ, true));
+	}
+
+	@Test
+	void testReadOfUserAfterExpiredLag_UsesReplica() {
+		ReplicaLagGuard lagGuard = new ReplicaLagGuard(Duration.ZERO);
+		DataSource dataSource = routing(replica, lagGuard);
+
+		lagGuard.recordWrite(1L);
+
+		assertEquals("replica", serverName(dataSource, SERVICE_READ, true, lagGuard, 1L));
+	}
+
+	@Test
+	void testReplicaUnavailable_FallsBackToPrimary() {
+		DataSource dataSource = routing(new AbstractDataSource() {
+			@Override
+			public Connection getConnection() throws SQLException {
+				throw new SQLException("Connection refused");
+			}
+
+			@Override
+			public Connection getConnection(String username, String password) throws SQLException {
+				throw new SQLException("Connection refused");
+			}
+		}, Duration.ZERO);
+
+		assertEquals("primary", serverName(dataSource, SERVICE_READ, true));
+	}
+
+	private DataSource routing(DataSource replicaDataSource, Duration maxLag) {
+		return routing(replicaDataSource, new ReplicaLagGuard(maxLag));
+	}
+
+	private DataSource routing(DataSource replicaDataSource, ReplicaLagGuard lagGuard) {
+		return new LazyConnectionDataSourceProxy(
+				new ReadReplicaRoutingDataSource(primary, replicaDataSource, lagGuard, Duration.ofMinutes(1)));
+	}
+
+	private String serverName(DataSource dataSource, String transactionName, boolean readOnly) {
+		return serverName(dataSource, transactionName, readOnly, null, null);
+	}
+
+	private String serverName(DataSource dataSource, String transactionName, boolean readOnly,
+			ReplicaLagGuard lagGuard, Long readUserId) {
+		TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		transaction.setName(transactionName);
+		transaction.setReadOnly(readOnly);
+		return transaction.execute(status -> {
+			if (lagGuard != null) {
+				lagGuard.readFor(readUserId);
+			}
+			return new JdbcTemplate(dataSource).queryForObject("SELECT name FROM server", String.class);
+		});
+	}
+
+	private static EmbeddedDatabase embeddedDatabase(String name) {
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName(name)
+				.build();
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("CREATE TABLE server (name VARCHAR(20))");
+		jdbcTemplate.update("INSERT INTO server (name) VALUES (?)", name);
+		return database;
+	}
+}
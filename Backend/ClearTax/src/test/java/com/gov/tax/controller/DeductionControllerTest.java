@@ -75,11 +75,11 @@ class DeductionControllerTest {
     //  Test: Get Deductions by User ID and Amendment Status Successfully
     @Test
     void testGetDeductionsByUserId_Success() {
-        List<Deduction> deductions = Arrays.asList(new Deduction(), new Deduction());
+        List<DeductionDTO> deductions = Arrays.asList(new DeductionDTO(), new DeductionDTO());
 
         when(deductionService.getDeductionsByUserId(anyLong(), anyInt())).thenReturn(deductions);
 
-        ResponseEntity<List<Deduction>> response = deductionController.getDeductionsByUserId(1L, 0);
+        ResponseEntity<List<DeductionDTO>> response = deductionController.getDeductionsByUserId(1L, 0);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(deductions, response.getBody());
@@ -88,11 +88,11 @@ class DeductionControllerTest {
     //  Test: Get Deductions by Year, User ID, and Amendment Status Successfully
     @Test
     void testGetDeductionsByYearAndUserId_Success() {
-        List<Deduction> deductions = Arrays.asList(new Deduction(), new Deduction());
+        List<DeductionDTO> deductions = Arrays.asList(new DeductionDTO(), new DeductionDTO());
 
         when(deductionService.getDeductionsByYearAndUserId(anyLong(), anyInt(), anyInt())).thenReturn(deductions);
 
-        ResponseEntity<List<Deduction>> response = deductionController.getDeductionsByYearAndUserId(1L, 2024, 1);
+        ResponseEntity<List<DeductionDTO>> response = deductionController.getDeductionsByYearAndUserId(1L, 2024, 1);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(deductions, response.getBody());
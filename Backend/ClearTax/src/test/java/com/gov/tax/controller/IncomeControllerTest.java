@@ -17,6 +17,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import com.gov.tax.dto.BulkIncomeUpdateDTO;
 import com.gov.tax.dto.IncomeDTO;
 import com.gov.tax.entity.Income;
 import com.gov.tax.service.IncomeService;
@@ -52,12 +53,13 @@ class IncomeControllerTest {
 	@Test
 	void testUpdateIncomeDetails_Success() {
 		List<IncomeDTO> updatedIncomes = Arrays.asList(new IncomeDTO(), new IncomeDTO());
-		when(incomeService.updateIncomeDetails(anyLong(), any())).thenReturn("Incomes updated successfully");
+		BulkIncomeUpdateDTO result = BulkIncomeUpdateDTO.builder().inserted(1).updated(1).build();
+		when(incomeService.updateIncomeDetails(anyLong(), any())).thenReturn(result);
 
-		ResponseEntity<String> response = incomeController.updateIncomeDetails(1L, updatedIncomes);
+		ResponseEntity<BulkIncomeUpdateDTO> response = incomeController.updateIncomeDetails(1L, updatedIncomes);
 
 		assertEquals(HttpStatus.OK, response.getStatusCode());
-		assertEquals("Incomes updated successfully", response.getBody());
+		assertEquals(result, response.getBody());
 	}
 
 	// Test: Update Specific Income by ID
@@ -98,10 +100,10 @@ class IncomeControllerTest {
 	// Test: Retrieve Incomes by User ID and Amendment Status
 	@Test
 	void testGetIncomesByUserId_Success() {
-		List<Income> incomes = Arrays.asList(new Income(), new Income());
+		List<IncomeDTO> incomes = Arrays.asList(new IncomeDTO(), new IncomeDTO());
 		when(incomeService.getIncomesByUserId(anyLong(), anyInt())).thenReturn(incomes);
 
-		ResponseEntity<List<Income>> response = incomeController.getIncomesByUserId(1L, 0);
+		ResponseEntity<List<IncomeDTO>> response = incomeController.getIncomesByUserId(1L, 0);
 
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertEquals(incomes, response.getBody());
@@ -110,10 +112,10 @@ class IncomeControllerTest {
 	// Test: Retrieve Incomes by Year, User ID, and Amendment Status
 	@Test
 	void testGetIncomesByYearAndUserId_Success() {
-		List<Income> incomes = Arrays.asList(new Income(), new Income());
+		List<IncomeDTO> incomes = Arrays.asList(new IncomeDTO(), new IncomeDTO());
 		when(incomeService.getIncomesByYearAndUserId(anyLong(), anyInt(), anyInt())).thenReturn(incomes);
 
-		ResponseEntity<List<Income>> response = incomeController.getIncomesByYearAndUserId(1L, 2024, 0);
+		ResponseEntity<List<IncomeDTO>> response = incomeController.getIncomesByYearAndUserId(1L, 2024, 0);
 
 		assertEquals(HttpStatus.OK, response.getStatusCode());
 		assertEquals(incomes, response.getBody());
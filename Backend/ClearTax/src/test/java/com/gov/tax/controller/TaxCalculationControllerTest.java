@@ -7,6 +7,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
 import com.gov.tax.dto.AmendmentRequestDTO;
+import com.gov.tax.dto.BulkTaxCalculationDTO;
+import com.gov.tax.dto.RegimeComparisonDTO;
+import com.gov.tax.dto.TaxCalculationDTO;
+import com.gov.tax.dto.TaxCalculationHistoryDTO;
+import com.gov.tax.dto.TaxSimulationDTO;
+import com.gov.tax.dto.TaxSimulationRequestDTO;
 import com.gov.tax.entity.Deduction;
 import com.gov.tax.entity.Income;
 import com.gov.tax.entity.TaxCalculation;
@@ -91,21 +98,32 @@ class TaxCalculationControllerTest {
 
     @Test
     void testGetTaxDetails() {
-        when(taxCalculationService.getTaxDetails(1L, 2024, 0)).thenReturn(taxCalculation);
-        ResponseEntity<TaxCalculation> response = taxCalculationController.getTaxDetails(1L, 2024, 0);
+        TaxCalculationDTO taxDetails = TaxCalculationDTO.builder().taxCalculationId(1L).userId(1L).build();
+        when(taxCalculationService.getTaxDetails(1L, 2024, 0)).thenReturn(taxDetails);
+        ResponseEntity<TaxCalculationDTO> response = taxCalculationController.getTaxDetails(1L, 2024, 0);
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(taxCalculation, response.getBody());
+        assertEquals(taxDetails, response.getBody());
     }
 
     @Test
     void testGetTaxHistory() {
-        List<TaxCalculation> taxHistory = Arrays.asList(taxCalculation);
+        List<TaxCalculationDTO> taxHistory = Arrays.asList(new TaxCalculationDTO());
         when(taxCalculationService.getTaxHistory(1L)).thenReturn(taxHistory);
-        ResponseEntity<List<TaxCalculation>> response = taxCalculationController.getTaxHistory(1L);
+        ResponseEntity<List<TaxCalculationDTO>> response = taxCalculationController.getTaxHistory(1L);
         assertEquals(200, response.getStatusCode().value());
         assertEquals(1, response.getBody().size());
     }
 
+    @Test
+    void testGetAmendmentHistory() {
+        List<TaxCalculationHistoryDTO> history = List.of(TaxCalculationHistoryDTO.builder().taxCalculationId(2L)
+                .isAmended(1).originalTaxCalculationId(1L).build());
+        when(taxCalculationService.getAmendmentHistory(1L)).thenReturn(history);
+        ResponseEntity<List<TaxCalculationHistoryDTO>> response = taxCalculationController.getAmendmentHistory(1L);
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(history, response.getBody());
+    }
+
     @Test
     void testCalculateGrossIncome() {
         BigDecimal grossIncome = new BigDecimal("100000");
@@ -141,4 +159,35 @@ class TaxCalculationControllerTest {
         assertEquals(200, response.getStatusCode().value());
         assertEquals(amendmentRequestDTO, response.getBody());
     }
+
+    @Test
+    void testCalculateTaxLiabilityInBulk() {
+        BulkTaxCalculationDTO bulkResult = BulkTaxCalculationDTO.builder().taxYear(YEAR).created(2).build();
+        when(taxCalculationService.calculateTaxLiabilityInBulk(YEAR, Set.of(1L, 2L))).thenReturn(bulkResult);
+        ResponseEntity<BulkTaxCalculationDTO> response = taxCalculationController.calculateTaxLiabilityInBulk(YEAR,
+                Set.of(1L, 2L));
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(bulkResult, response.getBody());
+    }
+
+    @Test
+    void testCompareTaxRegimes() {
+        RegimeComparisonDTO comparison = RegimeComparisonDTO.builder().userId(1L).taxYear(YEAR)
+                .cheapestRegime("New Regime").build();
+        when(taxCalculationService.compareTaxRegimes(1L, YEAR)).thenReturn(comparison);
+        ResponseEntity<RegimeComparisonDTO> response = taxCalculationController.compareTaxRegimes(1L, YEAR);
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(comparison, response.getBody());
+    }
+
+    @Test
+    void testSimulateTaxLiability() {
+        TaxSimulationRequestDTO request = TaxSimulationRequestDTO.builder()
+                .taxableIncomes(List.of(new BigDecimal("500000"))).build();
+        TaxSimulationDTO simulation = TaxSimulationDTO.builder().taxYear(YEAR).points(List.of()).build();
+        when(taxCalculationService.simulateTaxLiability(request)).thenReturn(simulation);
+        ResponseEntity<TaxSimulationDTO> response = taxCalculationController.simulateTaxLiability(request);
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(simulation, response.getBody());
+    }
 }
@@ -22,6 +22,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import com.gov.tax.dto.TaxFillingDTO;
+import com.gov.tax.dto.TaxFillingHistoryDTO;
 import com.gov.tax.entity.TaxCalculation;
 import com.gov.tax.entity.TaxFilling;
 import com.gov.tax.entity.User;
@@ -153,8 +154,8 @@ class TaxFillingControllerTest {
 
 	@Test
 	void testGetTaxFillingHistory() {
-		when(taxFillingService.getTaxFillingHistory(1L)).thenReturn(List.of(taxFilling));
-		ResponseEntity<List<TaxFilling>> history = taxFillingController.getTaxFillingHistory(1L);
+		when(taxFillingService.getTaxFillingHistory(1L)).thenReturn(List.of(new TaxFillingHistoryDTO()));
+		ResponseEntity<List<TaxFillingHistoryDTO>> history = taxFillingController.getTaxFillingHistory(1L);
 		assertNotNull(history);
 	}
 }
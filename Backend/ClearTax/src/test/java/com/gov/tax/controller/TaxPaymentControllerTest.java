@@ -19,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
 
+import com.gov.tax.dto.TaxPaymentDTO;
 import com.gov.tax.entity.TaxPayment;
 import com.gov.tax.service.TaxPaymentService;
 import com.itextpdf.text.DocumentException;
@@ -39,10 +40,10 @@ class TaxPaymentControllerTest {
 
 	@Test
 	void testGetTaxPaymentByUserId() {
-		TaxPayment mockPayment = new TaxPayment();
+		TaxPaymentDTO mockPayment = new TaxPaymentDTO();
 		when(taxPaymentService.getTaxPaymentByUserId(anyLong())).thenReturn(mockPayment);
 
-		ResponseEntity<TaxPayment> response = taxPaymentController.getTaxPaymentByUserId(1L);
+		ResponseEntity<TaxPaymentDTO> response = taxPaymentController.getTaxPaymentByUserId(1L);
 
 		assertEquals(200, response.getStatusCode().value());
 		assertEquals(mockPayment, response.getBody());
@@ -50,10 +51,10 @@ class TaxPaymentControllerTest {
 
 	@Test
 	void testGetAllTaxPaymentByUserId() {
-		List<TaxPayment> payments = Arrays.asList(new TaxPayment(), new TaxPayment());
-		when(taxPaymentService.getAllTaxPaymentByUserId(anyLong())).thenReturn(payments);
+		List<TaxPaymentDTO> payments = Arrays.asList(new TaxPaymentDTO(), new TaxPaymentDTO());
+		when(taxPaymentService.getAllTaxPaymentByUserId(anyLong(), anyInt(), anyInt())).thenReturn(payments);
 
-		ResponseEntity<List<TaxPayment>> response = taxPaymentController.getAllTaxPaymentByUserId(1L);
+		ResponseEntity<List<TaxPaymentDTO>> response = taxPaymentController.getAllTaxPaymentByUserId(1L, 0, 50);
 
 		assertEquals(200, response.getStatusCode().value());
 		assertEquals(payments, response.getBody());
@@ -61,10 +62,10 @@ class TaxPaymentControllerTest {
 
 	@Test
 	void testGetTaxPaymentByUserIdAndTransactionId() {
-		TaxPayment mockPayment = new TaxPayment();
+		TaxPaymentDTO mockPayment = new TaxPaymentDTO();
 		when(taxPaymentService.getTaxPaymentByUserIdAndTransactionId(anyLong(), anyString())).thenReturn(mockPayment);
 
-		ResponseEntity<TaxPayment> response = taxPaymentController.getTaxPaymentByUserIdAndTransactionId(1L, "txn123");
+		ResponseEntity<TaxPaymentDTO> response = taxPaymentController.getTaxPaymentByUserIdAndTransactionId(1L, "txn123");
 
 		assertEquals(200, response.getStatusCode().value());
 		assertEquals(mockPayment, response.getBody());
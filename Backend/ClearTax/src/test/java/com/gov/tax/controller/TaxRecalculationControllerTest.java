@@ -0,0 +1,48 @@
+package com.gov.tax.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import com.gov.tax.dto.TaxRecalculationStatusDTO;
+import com.gov.tax.service.TaxRecalculationService;
+
+@ExtendWith(MockitoExtension.class)
+class TaxRecalculationControllerTest {
+
+	private static final int YEAR = 2025;
+
+	@Mock
+	private TaxRecalculationService taxRecalculationService;
+
+	@InjectMocks
+	private TaxRecalculationController taxRecalculationController;
+
+	@Test
+	void testStartRecalculation() {
+		TaxRecalculationStatusDTO status = TaxRecalculationStatusDTO.builder().taxYear(YEAR).status("Running").build();
+		when(taxRecalculationService.startRecalculation(YEAR)).thenReturn(status);
+
+		ResponseEntity<TaxRecalculationStatusDTO> response = taxRecalculationController.startRecalculation(YEAR);
+
+		assertEquals(202, response.getStatusCode().value());
+		assertEquals(status, response.getBody());
+	}
+
+	@Test
+	void testGetStatus() {
+		TaxRecalculationStatusDTO status = TaxRecalculationStatusDTO.builder().status("Idle").build();
+		when(taxRecalculationService.getStatus()).thenReturn(status);
+
+		ResponseEntity<TaxRecalculationStatusDTO> response = taxRecalculationController.getStatus();
+
+		assertEquals(200, response.getStatusCode().value());
+		assertEquals(status, response.getBody());
+	}
+}
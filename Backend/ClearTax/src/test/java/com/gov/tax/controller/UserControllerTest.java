@@ -1,26 +1,30 @@
 package com.gov.tax.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gov.tax.dto.RegisterUserDTO;
 import com.gov.tax.dto.UpdateUserDTO;
 import com.gov.tax.dto.UserDTO;
+import com.gov.tax.dto.UserPageDTO;
 import com.gov.tax.entity.User;
 import com.gov.tax.service.UserService;
 
@@ -32,6 +36,9 @@ class UserControllerTest {
 	@Mock
 	private UserService userService;
 
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
+
 	@InjectMocks
 	private UserController userController;
 
@@ -85,12 +92,32 @@ class UserControllerTest {
 	}
 
 	@Test
-	void testGetAllUsers() throws Exception {
-		List<UserDTO> users = Arrays.asList(userDTO);
-		when(userService.getAllUsers()).thenReturn(users);
+	void testGetUsers() throws Exception {
+		UserPageDTO page = UserPageDTO.builder().users(List.of(userDTO)).nextCursor(1L).build();
+		when(userService.getUsers(null, 50, "USER", null, null)).thenReturn(page);
+
+		mockMvc.perform(get("/api/users/all").param("userRole", "USER")).andExpect(status().isOk())
+				.andExpect(jsonPath("$.users[0].name").value("Updated User"))
+				.andExpect(jsonPath("$.nextCursor").value(1));
+	}
 
-		mockMvc.perform(get("/api/users/all")).andExpect(status().isOk())
-				.andExpect(jsonPath("$[0].name").value("Updated User"));
+	@Test
+	void testStreamUsers() throws Exception {
+		doAnswer(invocation -> {
+			Consumer<UserDTO> action = invocation.getArgument(3);
+			action.accept(userDTO);
+			action.accept(userDTO);
+			return null;
+		}).when(userService).forEachUser(isNull(), any(), any(), any());
+
+		MvcResult result = mockMvc.perform(get("/api/users/all").accept("application/x-ndjson"))
+				.andExpect(request().asyncStarted()).andReturn();
+
+		String body = mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk()).andReturn().getResponse()
+				.getContentAsString();
+		String[] lines = body.split("\n");
+		assertEquals(2, lines.length);
+		assertEquals(TEST_EMAIL, new ObjectMapper().readValue(lines[0], UserDTO.class).getEmail());
 	}
 
 	@Test
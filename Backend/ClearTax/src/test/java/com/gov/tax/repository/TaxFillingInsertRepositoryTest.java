@@ -0,0 +1,95 @@
+package com.gov.tax.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Year;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gov.tax.entity.PaymentStatus;
+import com.gov.tax.entity.TaxFilling;
+import com.gov.tax.entity.TaxPayment;
+import com.gov.tax.entity.User;
+
+class TaxFillingInsertRepositoryTest {
+
+	private EmbeddedDatabase database;
+	private JdbcTemplate jdbcTemplate;
+	private TaxFillingInsertRepository taxFillingInsertRepository;
+
+	private User user;
+	private TaxFilling taxFilling;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName("filings").build();
+		jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("CREATE TABLE tax_filling (tax_filing_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+				+ "user_id BIGINT NOT NULL, filing_date DATE NOT NULL, filling_status VARCHAR(20) NOT NULL, "
+				+ "tax_year INT NOT NULL, pdf_generated BOOLEAN NOT NULL, refund_status VARCHAR(20) NOT NULL, "
+				+ "CONSTRAINT uk_tax_filling_user_year UNIQUE (user_id, tax_year))");
+		jdbcTemplate.execute("CREATE TABLE tax_payment (tax_payment_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+				+ "user_id BIGINT NOT NULL, amount_paid DECIMAL(19, 2) NOT NULL, payment_status VARCHAR(20), "
+				+ "tax_filing_id BIGINT, CONSTRAINT uk_tax_payment_filing UNIQUE (tax_filing_id))");
+		taxFillingInsertRepository = new TaxFillingInsertRepository(jdbcTemplate);
+
+		user = User.builder().userId(1L).build();
+		taxFilling = TaxFilling.builder().taxFilingId(1L).user(user).filingDate(LocalDate.now())
+				.taxYear(Year.of(2024)).refundStatus("Pending").pdfGenerated(true).build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		database.shutdown();
+	}
+
+	@Test
+	void testInsertFilingIfAbsent_SecondInsertIsIgnored() {
+		assertTrue(taxFillingInsertRepository.insertFilingIfAbsent(taxFilling));
+		assertFalse(taxFillingInsertRepository.insertFilingIfAbsent(taxFilling));
+
+		assertEquals(1, count("tax_filling"));
+	}
+
+	@Test
+	void testInsertFilingIfAbsent_OtherYearIsInserted() {
+		TaxFilling nextYear = TaxFilling.builder().user(user).filingDate(LocalDate.now()).taxYear(Year.of(2025))
+				.refundStatus("Pending").pdfGenerated(true).build();
+
+		assertTrue(taxFillingInsertRepository.insertFilingIfAbsent(taxFilling));
+		assertTrue(taxFillingInsertRepository.insertFilingIfAbsent(nextYear));
+
+		assertEquals(2, count("tax_filling"));
+	}
+
+	@Test
+	void testInsertPaymentIfAbsent_DuplicateKeepsTransactionUsable() {
+		TaxPayment taxPayment = TaxPayment.builder().user(user).amountPaid(new BigDecimal("5000.00"))
+				.paymentStatus(PaymentStatus.PENDING).taxFiling(taxFilling).build();
+		TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(database));
+
+		transaction.executeWithoutResult(status -> {
+			assertTrue(taxFillingInsertRepository.insertPaymentIfAbsent(taxPayment));
+			assertFalse(taxFillingInsertRepository.insertPaymentIfAbsent(taxPayment));
+		});
+
+		assertEquals(1, count("tax_payment"));
+		assertEquals("Pending", jdbcTemplate.queryForObject("SELECT payment_status FROM tax_payment", String.class));
+	}
+
+	private int count(String table) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+	}
+}
@@ -67,7 +67,7 @@ class AuthServiceImplTest {
 		// Arrange
 		when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(testUser));
 		when(passwordEncoder.matches(TEST_PASSWORD, TEST_PASSWORD)).thenReturn(true);
-		when(jwtTokenUtil.generateToken(TEST_EMAIL)).thenReturn("fake-token");
+		when(jwtTokenUtil.generateToken(TEST_EMAIL, "USER")).thenReturn("fake-token");
 
 		// Act
 		LoginResponseDTO response = authService.loginUser(loginRequestDTO);
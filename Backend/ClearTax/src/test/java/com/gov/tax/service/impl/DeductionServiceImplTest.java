@@ -4,14 +4,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.Year;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,7 +27,10 @@ import com.gov.tax.entity.Deduction;
 import com.gov.tax.entity.User;
 import com.gov.tax.exception.ResourceNotFoundException;
 import com.gov.tax.repository.DeductionRepository;
+import com.gov.tax.repository.IncomeDeductionInsertRepository;
 import com.gov.tax.repository.UserRepository;
+import com.gov.tax.service.TaxCalculationCacheService;
+import com.gov.tax.service.TaxYearSummaryService;
 
 class DeductionServiceImplTest {
 
@@ -34,9 +40,18 @@ class DeductionServiceImplTest {
     @Mock
     private DeductionRepository deductionRepository;
 
+    @Mock
+    private IncomeDeductionInsertRepository incomeDeductionInsertRepository;
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaxYearSummaryService taxYearSummaryService;
+
+    @Mock
+    private TaxCalculationCacheService taxCalculationCacheService;
+
     private User user;
     private Deduction deduction;
 
@@ -61,13 +76,38 @@ class DeductionServiceImplTest {
     void testAddMultipleDeductions_Success() {
         DeductionDTO deductionDTO = new DeductionDTO(1L, 1L, "Health Insurance", BigDecimal.valueOf(15000.00), LocalDate.now(), 0);
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(deductionRepository.saveAll(any())).thenReturn(List.of(deduction));
+        when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(user));
+        when(incomeDeductionInsertRepository.insertDeductions(any())).thenReturn(List.of(deduction));
 
         List<Deduction> result = deductionService.addMultipleDeductions(List.of(deductionDTO));
 
         assertEquals(1, result.size());
-        verify(deductionRepository, times(1)).saveAll(any());
+        verify(incomeDeductionInsertRepository, times(1)).insertDeductions(any());
+    }
+
+    //Add Multiple Deductions - Same user resolved and summarized once
+    @Test
+    void testAddMultipleDeductions_SameUserResolvedOnce() {
+        DeductionDTO insurance = new DeductionDTO(null, 1L, "Health Insurance", BigDecimal.valueOf(15000.00), LocalDate.now(), 0);
+        DeductionDTO donation = new DeductionDTO(null, 1L, "Charitable Donation", BigDecimal.valueOf(5000.00), LocalDate.now(), 0);
+        Deduction savedDonation = Deduction.builder()
+                .deductionId(2L)
+                .user(user)
+                .deductionType("Charitable Donation")
+                .amount(BigDecimal.valueOf(5000.00))
+                .deductionDate(LocalDate.now())
+                .isAmended(0)
+                .build();
+
+        when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(user));
+        when(incomeDeductionInsertRepository.insertDeductions(any())).thenReturn(List.of(deduction, savedDonation));
+
+        deductionService.addMultipleDeductions(List.of(insurance, donation));
+
+        verify(userRepository, times(1)).findAllById(Set.of(1L));
+        verify(userRepository, never()).findById(any());
+        verify(taxYearSummaryService, times(1)).recordDeductionChange(1L, LocalDate.now(), 0,
+                BigDecimal.valueOf(20000.00), 2);
     }
 
     //Add Multiple Deductions - User Not Found
@@ -93,6 +133,9 @@ class DeductionServiceImplTest {
 
         assertEquals("Charitable Donation", result.getDeductionType());
         verify(deductionRepository, times(1)).save(any(Deduction.class));
+        // same tax year, so one net change and no count change
+        verify(taxYearSummaryService, times(1)).recordDeductionChange(1L, LocalDate.now(), 0,
+                BigDecimal.valueOf(10000.00), 0);
     }
 
     //Update Deduction - Deduction Not Found
@@ -108,18 +151,20 @@ class DeductionServiceImplTest {
     //Delete Deduction - Success
     @Test
     void testDeleteDeduction_Success() {
-        when(deductionRepository.existsById(1L)).thenReturn(true);
+        when(deductionRepository.findById(1L)).thenReturn(Optional.of(deduction));
 
         String response = deductionService.deleteDeduction(1L);
 
         assertEquals("Deduction Deleted ...!", response);
-        verify(deductionRepository, times(1)).deleteById(1L);
+        verify(deductionRepository, times(1)).delete(deduction);
+        verify(taxYearSummaryService, times(1)).recordDeductionChange(1L, deduction.getDeductionDate(), 0,
+                deduction.getAmount().negate(), -1);
     }
 
     //Delete Deduction - Deduction Not Found
     @Test
     void testDeleteDeduction_NotFound() {
-        when(deductionRepository.existsById(2L)).thenReturn(false);
+        when(deductionRepository.findById(2L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> deductionService.deleteDeduction(2L));
     }
@@ -127,9 +172,10 @@ class DeductionServiceImplTest {
     //Get Deductions by UserId and Amendment Status - Success
     @Test
     void testGetDeductionsByUserId_Success() {
-        when(deductionRepository.findByUserUserIdAndIsAmended(1L, 0)).thenReturn(List.of(deduction));
+        when(deductionRepository.findDetailsByUserIdAndIsAmended(1L, 0)).thenReturn(List.of(
+                new DeductionDTO(1L, 1L, "Health Insurance", BigDecimal.valueOf(15000.00), LocalDate.now(), 0)));
 
-        List<Deduction> result = deductionService.getDeductionsByUserId(1L, 0);
+        List<DeductionDTO> result = deductionService.getDeductionsByUserId(1L, 0);
 
         assertFalse(result.isEmpty());
     }
@@ -137,7 +183,7 @@ class DeductionServiceImplTest {
     //Get Deductions by UserId and Amendment Status - No Deductions Found
     @Test
     void testGetDeductionsByUserId_NoDeductionsFound() {
-        when(deductionRepository.findByUserUserIdAndIsAmended(1L, 0)).thenReturn(List.of());
+        when(deductionRepository.findDetailsByUserIdAndIsAmended(1L, 0)).thenReturn(List.of());
 
         assertThrows(ResourceNotFoundException.class, () -> deductionService.getDeductionsByUserId(1L, 0));
     }
@@ -145,10 +191,10 @@ class DeductionServiceImplTest {
     //Get Deductions by Year and UserId - Success
     @Test
     void testGetDeductionsByYearAndUserId_Success() {
-        when(deductionRepository.findByUserUserIdAndDeductionDateYearAndIsAmended(1L, LocalDate.now().getYear(), 0))
-                .thenReturn(List.of(deduction));
+        when(deductionRepository.findDetailsByUserIdAndTaxYearAndIsAmended(1L, Year.now(), 0))
+                .thenReturn(List.of(new DeductionDTO(1L, 1L, "Health Insurance", BigDecimal.valueOf(15000.00), LocalDate.now(), 0)));
 
-        List<Deduction> result = deductionService.getDeductionsByYearAndUserId(1L, LocalDate.now().getYear(), 0);
+        List<DeductionDTO> result = deductionService.getDeductionsByYearAndUserId(1L, LocalDate.now().getYear(), 0);
 
         assertFalse(result.isEmpty());
     }
@@ -156,7 +202,7 @@ class DeductionServiceImplTest {
     //Get Deductions by Year and UserId - No Deductions Found
     @Test
     void testGetDeductionsByYearAndUserId_NoDeductionsFound() {
-        when(deductionRepository.findByUserUserIdAndDeductionDateYearAndIsAmended(1L, LocalDate.now().getYear(), 0))
+        when(deductionRepository.findDetailsByUserIdAndTaxYearAndIsAmended(1L, Year.now(), 0))
                 .thenReturn(List.of());
 
         assertThrows(ResourceNotFoundException.class, this::callGetDeductions);
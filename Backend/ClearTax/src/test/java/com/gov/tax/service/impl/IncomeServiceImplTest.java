@@ -4,15 +4,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.Year;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,12 +23,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import com.gov.tax.dto.BulkIncomeUpdateDTO;
 import com.gov.tax.dto.IncomeDTO;
 import com.gov.tax.entity.Income;
 import com.gov.tax.entity.User;
+import com.gov.tax.exception.InvalidRequestException;
 import com.gov.tax.exception.ResourceNotFoundException;
+import com.gov.tax.repository.IncomeDeductionInsertRepository;
 import com.gov.tax.repository.IncomeRepository;
 import com.gov.tax.repository.UserRepository;
+import com.gov.tax.service.TaxCalculationCacheService;
+import com.gov.tax.service.TaxYearSummaryService;
 
 class IncomeServiceImplTest {
 
@@ -35,9 +43,18 @@ class IncomeServiceImplTest {
 	@Mock
 	private IncomeRepository incomeRepository;
 
+	@Mock
+	private IncomeDeductionInsertRepository incomeDeductionInsertRepository;
+
 	@Mock
 	private UserRepository userRepository;
 
+	@Mock
+	private TaxYearSummaryService taxYearSummaryService;
+
+	@Mock
+	private TaxCalculationCacheService taxCalculationCacheService;
+
 	private User user;
 	private Income income;
 
@@ -56,13 +73,32 @@ class IncomeServiceImplTest {
 	void testAddMultipleIncomes_Success() {
 		IncomeDTO incomeDTO = new IncomeDTO(1L, 1L, "Salary", BigDecimal.valueOf(50000.00), LocalDate.now(), 0);
 
-		when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-		when(incomeRepository.saveAll(any())).thenReturn(List.of(income));
+		when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(user));
+		when(incomeDeductionInsertRepository.insertIncomes(any())).thenReturn(List.of(income));
 
 		List<Income> result = incomeService.addMultipleIncomes(List.of(incomeDTO));
 
 		assertEquals(1, result.size());
-		verify(incomeRepository, times(1)).saveAll(any());
+		verify(incomeDeductionInsertRepository, times(1)).insertIncomes(any());
+	}
+
+	// Test: Add Multiple Incomes - Same user resolved and summarized once
+	@Test
+	void testAddMultipleIncomes_SameUserResolvedOnce() {
+		IncomeDTO salary = new IncomeDTO(null, 1L, "Salary", BigDecimal.valueOf(50000.00), LocalDate.now(), 0);
+		IncomeDTO bonus = new IncomeDTO(null, 1L, "Bonus", BigDecimal.valueOf(10000.00), LocalDate.now(), 0);
+		Income savedBonus = Income.builder().incomeId(2L).user(user).incomeSource("Bonus")
+				.amount(BigDecimal.valueOf(10000.00)).incomeDate(LocalDate.now()).isAmended(0).build();
+
+		when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(user));
+		when(incomeDeductionInsertRepository.insertIncomes(any())).thenReturn(List.of(income, savedBonus));
+
+		incomeService.addMultipleIncomes(List.of(salary, bonus));
+
+		verify(userRepository, times(1)).findAllById(Set.of(1L));
+		verify(userRepository, never()).findById(any());
+		verify(taxYearSummaryService, times(1)).recordIncomeChange(1L, LocalDate.now(), 0,
+				BigDecimal.valueOf(60000.00), 2);
 	}
 
 	// Test: Add Multiple Incomes - User Not Found
@@ -91,6 +127,9 @@ class IncomeServiceImplTest {
 
 		assertEquals("Bonus", result.getIncomeSource());
 		verify(incomeRepository, times(1)).save(any(Income.class));
+		// same tax year, so one net change and no count change
+		verify(taxYearSummaryService, times(1)).recordIncomeChange(1L, LocalDate.now(), 0,
+				BigDecimal.valueOf(-40000.00), 0);
 	}
 
 	// Test: Update Income - Income Not Found
@@ -107,18 +146,20 @@ class IncomeServiceImplTest {
 	// Test: Delete Income - Success
 	@Test
 	void testDeleteIncome_Success() {
-		when(incomeRepository.existsById(1L)).thenReturn(true);
+		when(incomeRepository.findById(1L)).thenReturn(Optional.of(income));
 
 		String response = incomeService.deleteIncome(1L);
 
 		assertEquals("Income Deleted Successfully..!", response);
-		verify(incomeRepository, times(1)).deleteById(1L);
+		verify(incomeRepository, times(1)).delete(income);
+		verify(taxYearSummaryService, times(1)).recordIncomeChange(1L, income.getIncomeDate(), 0,
+				income.getAmount().negate(), -1);
 	}
 
 	// Test: Delete Income - Income Not Found
 	@Test
 	void testDeleteIncome_NotFound() {
-		when(incomeRepository.existsById(2L)).thenReturn(false);
+		when(incomeRepository.findById(2L)).thenReturn(Optional.empty());
 
 		assertThrows(ResourceNotFoundException.class, () -> incomeService.deleteIncome(2L));
 	}
@@ -126,9 +167,10 @@ class IncomeServiceImplTest {
 	// Test: Get Incomes by UserId and Amendment Status - Success
 	@Test
 	void testGetIncomesByUserId_Success() {
-		when(incomeRepository.findByUserUserIdAndIsAmended(1L, 0)).thenReturn(List.of(income));
+		when(incomeRepository.findDetailsByUserIdAndIsAmended(1L, 0)).thenReturn(
+				List.of(new IncomeDTO(1L, 1L, "Salary", BigDecimal.valueOf(50000), LocalDate.now(), 0)));
 
-		List<Income> result = incomeService.getIncomesByUserId(1L, 0);
+		List<IncomeDTO> result = incomeService.getIncomesByUserId(1L, 0);
 
 		assertFalse(result.isEmpty());
 	}
@@ -136,19 +178,20 @@ class IncomeServiceImplTest {
 	// Test: Delete Incomes by UserId and Year - Success
 	@Test
 	void testDeleteIncomesByUserIdAndYear_Success() {
-		when(incomeRepository.findByUserUserIdAndIncomeDateYear(1L, LocalDate.now().getYear()))
+		when(incomeRepository.findByUserUserIdAndTaxYear(1L, Year.now()))
 				.thenReturn(List.of(income));
 
 		String response = incomeService.deleteIncomesByUserIdAndYear(1L, LocalDate.now().getYear());
 
 		assertEquals("Income Deleted Successfully...!", response);
 		verify(incomeRepository, times(1)).deleteAll(any());
+		verify(taxYearSummaryService, times(1)).clearIncomes(1L, LocalDate.now().getYear());
 	}
 
 	// Test: Delete Incomes by UserId and Year - No Records Found
 	@Test
 	void testDeleteIncomesByUserIdAndYear_NoRecords() {
-	    when(incomeRepository.findByUserUserIdAndIncomeDateYear(1L, LocalDate.now().getYear())).thenReturn(List.of());
+	    when(incomeRepository.findByUserUserIdAndTaxYear(1L, Year.now())).thenReturn(List.of());
 
 	    assertThrows(ResourceNotFoundException.class, this::invokeDeleteIncomes);
 	}
@@ -160,16 +203,59 @@ class IncomeServiceImplTest {
 	// Test: Update Income Details - Success
 	@Test
 	void testUpdateIncomeDetails_Success() {
-		IncomeDTO incomeDTO = new IncomeDTO(2L, 1L, "Salary", BigDecimal.valueOf(20000.00), LocalDate.now(), 0);
+		IncomeDTO incomeDTO = new IncomeDTO(null, 1L, "Salary", BigDecimal.valueOf(20000.00), LocalDate.now(), 0);
 
 		when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-		doNothing().when(incomeRepository).deleteByUserUserIdAndIncomeDateYear(1L, LocalDate.now().getYear());
-		when(incomeRepository.save(any())).thenReturn(income);
+		when(incomeRepository.findByUserUserIdAndTaxYear(1L, Year.now())).thenReturn(List.of());
 
-		String response = incomeService.updateIncomeDetails(1L, List.of(incomeDTO));
+		BulkIncomeUpdateDTO response = incomeService.updateIncomeDetails(1L, List.of(incomeDTO));
 
-		assertEquals("Income Updated Successfully", response);
-		verify(incomeRepository, times(1)).save(any(Income.class));
+		assertEquals(1, response.getInserted());
+		verify(incomeDeductionInsertRepository, times(1)).insertIncomes(any());
+		verify(incomeRepository, never()).saveAll(any());
+	}
+
+	// Test: Update Income Details - Unknown income ID is rejected, not inserted
+	@Test
+	void testUpdateIncomeDetails_UnknownIncomeId() {
+		IncomeDTO staleIncome = new IncomeDTO(9L, 1L, "Salary", BigDecimal.valueOf(20000.00), LocalDate.now(), 0);
+
+		when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+		when(incomeRepository.findByUserUserIdAndTaxYear(1L, Year.now())).thenReturn(List.of(income));
+
+		assertThrows(InvalidRequestException.class, () -> incomeService.updateIncomeDetails(1L, List.of(staleIncome)));
+		verify(incomeDeductionInsertRepository, never()).insertIncomes(any());
+		verify(incomeRepository, never()).deleteAllInBatch(any());
+	}
+
+	// Test: Update Income Details - Only changed rows are written
+	@Test
+	void testUpdateIncomeDetails_WritesOnlyChanges() {
+		Income rent = Income.builder().incomeId(2L).user(user).incomeSource("Rent").amount(BigDecimal.valueOf(12000.00))
+				.incomeDate(LocalDate.now()).isAmended(0).build();
+		Income interest = Income.builder().incomeId(3L).user(user).incomeSource("Interest")
+				.amount(BigDecimal.valueOf(3000.00)).incomeDate(LocalDate.now()).isAmended(0).build();
+		IncomeDTO sameSalary = new IncomeDTO(1L, 1L, "Salary", new BigDecimal("50000"), LocalDate.now(), 0);
+		IncomeDTO raisedRent = new IncomeDTO(2L, 1L, "Rent", BigDecimal.valueOf(15000.00), LocalDate.now(), 0);
+		IncomeDTO bonus = new IncomeDTO(null, 1L, "Bonus", BigDecimal.valueOf(10000.00), LocalDate.now(), 0);
+
+		when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+		when(incomeRepository.findByUserUserIdAndTaxYear(1L, Year.now())).thenReturn(List.of(income, rent, interest));
+
+		BulkIncomeUpdateDTO response = incomeService.updateIncomeDetails(1L, List.of(sameSalary, raisedRent, bonus));
+
+		assertEquals(1, response.getInserted());
+		assertEquals(1, response.getUpdated());
+		assertEquals(1, response.getDeleted());
+		assertEquals(1, response.getUnchanged());
+		assertEquals(BigDecimal.valueOf(15000.00), rent.getAmount());
+		verify(incomeRepository, never()).save(any());
+		verify(incomeRepository, times(1)).deleteAllInBatch(List.of(interest));
+		// rent +3000, interest -3000 and bonus +10000 net into one change of the yearly totals
+		verify(taxYearSummaryService, times(1)).recordIncomeChange(1L, LocalDate.now(), 0,
+				BigDecimal.valueOf(10000.00), 0);
+		verifyNoMoreInteractions(taxYearSummaryService);
+		verify(taxCalculationCacheService, times(1)).evictUser(1L);
 	}
 
 	// Test: Update Income Details - User Not Found
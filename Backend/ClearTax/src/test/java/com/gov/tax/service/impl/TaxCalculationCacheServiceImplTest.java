@@ -0,0 +1,54 @@
+package com.gov.tax.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import com.gov.tax.config.ReplicaLagGuard;
+import com.gov.tax.entity.TaxCalculation;
+import com.gov.tax.service.TaxCalculationCacheService;
+
+class TaxCalculationCacheServiceImplTest {
+
+	private CaffeineCacheManager cacheManager;
+	private TaxCalculationCacheServiceImpl taxCalculationCacheService;
+
+	@BeforeEach
+	void setUp() {
+		cacheManager = new CaffeineCacheManager(TaxCalculationCacheService.TAX_DETAILS_CACHE,
+				TaxCalculationCacheService.TAX_HISTORY_CACHE);
+		taxCalculationCacheService = new TaxCalculationCacheServiceImpl(cacheManager,
+				new ReplicaLagGuard(Duration.ofSeconds(5)));
+
+		cacheManager.getCache(TaxCalculationCacheService.TAX_DETAILS_CACHE).put("1:2025:0", new TaxCalculation());
+		cacheManager.getCache(TaxCalculationCacheService.TAX_DETAILS_CACHE).put("1:2024:1", new TaxCalculation());
+		cacheManager.getCache(TaxCalculationCacheService.TAX_DETAILS_CACHE).put("11:2025:0", new TaxCalculation());
+		cacheManager.getCache(TaxCalculationCacheService.TAX_HISTORY_CACHE).put(1L, List.of());
+		cacheManager.getCache(TaxCalculationCacheService.TAX_HISTORY_CACHE).put(11L, List.of());
+	}
+
+	@Test
+	void testEvictUser_RemovesOnlyThatUsersEntries() {
+		taxCalculationCacheService.evictUser(1L);
+
+		assertNull(cacheManager.getCache(TaxCalculationCacheService.TAX_DETAILS_CACHE).get("1:2025:0"));
+		assertNull(cacheManager.getCache(TaxCalculationCacheService.TAX_DETAILS_CACHE).get("1:2024:1"));
+		assertNull(cacheManager.getCache(TaxCalculationCacheService.TAX_HISTORY_CACHE).get(1L));
+		assertNotNull(cacheManager.getCache(TaxCalculationCacheService.TAX_DETAILS_CACHE).get("11:2025:0"));
+		assertNotNull(cacheManager.getCache(TaxCalculationCacheService.TAX_HISTORY_CACHE).get(11L));
+	}
+
+	@Test
+	void testEvictUsers_RemovesEveryListedUser() {
+		taxCalculationCacheService.evictUsers(List.of(1L, 11L));
+
+		assertNull(cacheManager.getCache(TaxCalculationCacheService.TAX_DETAILS_CACHE).get("11:2025:0"));
+		assertNull(cacheManager.getCache(TaxCalculationCacheService.TAX_HISTORY_CACHE).get(11L));
+	}
+}
@@ -5,17 +5,20 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.Year;
-import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,19 +28,36 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.gov.tax.calculation.TaxRegimes;
+import com.gov.tax.config.ReplicaLagGuard;
 import com.gov.tax.dto.AmendmentRequestDTO;
-import com.gov.tax.dto.UserDTO;
+import com.gov.tax.dto.BulkTaxCalculationDTO;
+import com.gov.tax.dto.RegimeComparisonDTO;
+import com.gov.tax.dto.RegimeLiabilityDTO;
+import com.gov.tax.dto.TaxCalculationDTO;
+import com.gov.tax.dto.TaxCalculationHistoryDTO;
+import com.gov.tax.dto.TaxSimulationDTO;
+import com.gov.tax.dto.TaxSimulationPointDTO;
+import com.gov.tax.dto.TaxSimulationRequestDTO;
+import com.gov.tax.dto.TaxYearTotalsDTO;
 import com.gov.tax.entity.Deduction;
 import com.gov.tax.entity.Income;
 import com.gov.tax.entity.TaxCalculation;
 import com.gov.tax.entity.User;
+import com.gov.tax.exception.InvalidRequestException;
 import com.gov.tax.exception.ResourceNotFoundException;
-import com.gov.tax.mapper.UserMapper;
 import com.gov.tax.repository.DeductionRepository;
 import com.gov.tax.repository.IncomeRepository;
+import com.gov.tax.repository.TaxCalculationBatchRepository;
 import com.gov.tax.repository.TaxCalculationRepository;
+import com.gov.tax.repository.projection.AmountSummary;
+import com.gov.tax.repository.projection.DeductionTypeSummary;
+import com.gov.tax.repository.projection.UserAmountSummary;
+import com.gov.tax.repository.projection.UserTaxCalculationId;
+import com.gov.tax.service.TaxCalculationCacheService;
 import com.gov.tax.service.TaxPaymentService;
 import com.gov.tax.service.TaxRefundService;
+import com.gov.tax.service.TaxYearSummaryService;
 import com.gov.tax.service.UserService;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,11 +72,17 @@ class TaxCalculationServiceImplTest {
 	@Mock
 	private UserService userService;
 	@Mock
-	private UserMapper userMapper;
-	@Mock
 	private TaxPaymentService taxPaymentService;
 	@Mock
 	private TaxRefundService taxRefundService;
+	@Mock
+	private TaxCalculationBatchRepository taxCalculationBatchRepository;
+	@Mock
+	private TaxYearSummaryService taxYearSummaryService;
+	@Mock
+	private TaxCalculationCacheService taxCalculationCacheService;
+	@Mock
+	private ReplicaLagGuard replicaLagGuard;
 
 	@InjectMocks
 	private TaxCalculationServiceImpl taxCalculationService;
@@ -69,7 +95,8 @@ class TaxCalculationServiceImplTest {
 	private TaxCalculation testTaxCalculation;
 	private AmendmentRequestDTO amendmentRequestDTO;
 	private User user;
-	private UserDTO userDTO;
+	private AmountSummary incomeSummary;
+	private AmountSummary deductionSummary;
 
 	@BeforeEach
 	void setUp() {
@@ -81,6 +108,9 @@ class TaxCalculationServiceImplTest {
 		testDeduction.setAmount(new BigDecimal("50000"));
 		testDeduction.setDeductionDate(LocalDate.of(YEAR, 1, 1));
 
+		incomeSummary = new AmountSummary(new BigDecimal("500000"), 1L);
+		deductionSummary = new AmountSummary(new BigDecimal("50000"), 1L);
+
 		testTaxCalculation = new TaxCalculation();
 		testTaxCalculation.setGrossIncome(new BigDecimal("500000"));
 		testTaxCalculation.setDeductions(new BigDecimal("50000"));
@@ -92,9 +122,6 @@ class TaxCalculationServiceImplTest {
 		user = new User();
 		user.setUserId(USER_ID);
 
-		userDTO = new UserDTO();
-		userDTO.setUserId(USER_ID);
-
 		amendmentRequestDTO = AmendmentRequestDTO.builder().user(user).taxYear(YEAR)
 				.totalIncome(new BigDecimal("600000")).totalDeductions(new BigDecimal("60000"))
 				.taxableIncome(new BigDecimal("540000")).isAmended(1).build();
@@ -102,38 +129,38 @@ class TaxCalculationServiceImplTest {
 
 	@Test
 	void testGetTaxDetails_Success() {
-		when(taxCalculationRepository.findByUserUserIdAndTaxYearAndIsAmended(USER_ID, Year.of(YEAR), 0))
-				.thenReturn(Optional.of(testTaxCalculation));
+		when(taxCalculationRepository.findDetailsByUserIdAndTaxYearAndIsAmended(USER_ID, Year.of(YEAR), 0))
+				.thenReturn(Optional.of(TaxCalculationDTO.builder().taxCalculationId(1L).userId(USER_ID)
+						.taxLiability(new BigDecimal("22500")).taxYear(Year.of(YEAR)).build()));
 
 		// Mock income and deductions
-		when(incomeRepository.findByUserUserIdAndIncomeDateYear(USER_ID, YEAR)).thenReturn(List.of(testIncome));
-		when(deductionRepository.findByUserUserIdAndDeductionDateYear(USER_ID, YEAR))
-				.thenReturn(List.of(testDeduction));
+		when(taxYearSummaryService.getTotals(USER_ID, YEAR)).thenReturn(totals(incomeSummary, deductionSummary));
 
-		TaxCalculation result = taxCalculationService.getTaxDetails(USER_ID, YEAR, 0);
+		TaxCalculationDTO result = taxCalculationService.getTaxDetails(USER_ID, YEAR, 0);
 		assertNotNull(result);
 		assertEquals(new BigDecimal("22500"), result.getTaxLiability());
 	}
 
 	@Test
 	void testGetTaxDetails_NotFound() {
-		lenient().when(taxCalculationRepository.findByUserUserIdAndTaxYearAndIsAmended(USER_ID, Year.of(YEAR), 0))
+		lenient().when(taxCalculationRepository.findDetailsByUserIdAndTaxYearAndIsAmended(USER_ID, Year.of(YEAR), 0))
 				.thenReturn(Optional.empty());
+		when(taxYearSummaryService.getTotals(USER_ID, YEAR)).thenReturn(totals(incomeSummary, deductionSummary));
 
 		assertThrows(ResourceNotFoundException.class, () -> taxCalculationService.getTaxDetails(USER_ID, YEAR, 0));
 	}
 
 	@Test
 	void testGetTaxHistory_Success() {
-		when(taxCalculationRepository.findByUserUserId(USER_ID)).thenReturn(Optional.of(List.of(testTaxCalculation)));
+		when(taxCalculationRepository.findDetailsByUserId(USER_ID)).thenReturn(List.of(new TaxCalculationDTO()));
 
-		List<TaxCalculation> history = taxCalculationService.getTaxHistory(USER_ID);
+		List<TaxCalculationDTO> history = taxCalculationService.getTaxHistory(USER_ID);
 		assertFalse(history.isEmpty());
 	}
 
 	@Test
 	void testGetTaxHistory_NotFound() {
-		when(taxCalculationRepository.findByUserUserId(USER_ID)).thenReturn(Optional.empty());
+		when(taxCalculationRepository.findDetailsByUserId(USER_ID)).thenReturn(List.of());
 
 		assertThrows(ResourceNotFoundException.class, () -> taxCalculationService.getTaxHistory(USER_ID));
 	}
@@ -143,9 +170,7 @@ class TaxCalculationServiceImplTest {
 		when(taxCalculationRepository.findByUserUserIdAndTaxYear(USER_ID, Year.of(YEAR)))
 				.thenReturn(Optional.of(testTaxCalculation));
 
-		when(incomeRepository.findByUserUserIdAndIncomeDateYear(USER_ID, YEAR)).thenReturn(List.of(testIncome));
-		when(deductionRepository.findByUserUserIdAndDeductionDateYear(USER_ID, YEAR))
-				.thenReturn(List.of(testDeduction));
+		when(taxYearSummaryService.getTotals(USER_ID, YEAR)).thenReturn(totals(incomeSummary, deductionSummary));
 		when(taxCalculationRepository.save(any(TaxCalculation.class))).thenReturn(testTaxCalculation);
 
 		TaxCalculation updated = taxCalculationService.calculateAndUpdateTaxLiability(USER_ID, YEAR);
@@ -166,9 +191,7 @@ class TaxCalculationServiceImplTest {
 		when(taxCalculationRepository.findByUserUserIdAndTaxYearAndIsAmended(USER_ID, Year.of(YEAR), 0))
 				.thenReturn(Optional.of(testTaxCalculation));
 
-		when(incomeRepository.findByUserUserIdAndIncomeDateYear(USER_ID, YEAR)).thenReturn(List.of(testIncome));
-		when(deductionRepository.findByUserUserIdAndDeductionDateYear(USER_ID, YEAR))
-				.thenReturn(List.of(testDeduction));
+		when(taxYearSummaryService.getTotals(USER_ID, YEAR)).thenReturn(totals(incomeSummary, deductionSummary));
 
 		when(taxCalculationRepository.save(any(TaxCalculation.class))).thenReturn(testTaxCalculation);
 
@@ -189,11 +212,7 @@ class TaxCalculationServiceImplTest {
 		when(taxCalculationRepository.findByUserUserIdAndTaxYearAndIsAmended(USER_ID, Year.of(YEAR), 0))
 				.thenReturn(Optional.of(testTaxCalculation));
 
-		when(incomeRepository.findByUserUserIdAndIncomeDateYear(USER_ID, YEAR)).thenReturn(List.of(testIncome)); // Mocking
-																													// income
-																													// data
-		when(deductionRepository.findByUserUserIdAndDeductionDateYear(USER_ID, YEAR))
-				.thenReturn(List.of(testDeduction)); // Mocking deduction data
+		when(taxYearSummaryService.getTotals(USER_ID, YEAR)).thenReturn(totals(incomeSummary, deductionSummary));
 
 		when(taxCalculationRepository.save(any(TaxCalculation.class))).thenReturn(testTaxCalculation);
 
@@ -208,10 +227,27 @@ class TaxCalculationServiceImplTest {
 		verify(taxPaymentService, times(0)).createPayment(anyLong(), any(BigDecimal.class));
 	}
 
+	@Test
+	void testAmendTaxCalculation_UsesPathUserNotRequestUser() {
+		when(taxCalculationRepository.findByUserUserIdAndTaxYearAndIsAmended(USER_ID, Year.of(YEAR), 0))
+				.thenReturn(Optional.of(testTaxCalculation));
+		when(taxYearSummaryService.getTotals(USER_ID, YEAR)).thenReturn(totals(incomeSummary, deductionSummary));
+		when(userService.getUserReference(USER_ID)).thenReturn(user);
+
+		User otherUser = new User();
+		otherUser.setUserId(99L);
+		amendmentRequestDTO.setUser(otherUser);
+
+		taxCalculationService.amendTaxCalculation(USER_ID, amendmentRequestDTO);
+
+		verify(taxCalculationRepository).save(argThat(calculation -> calculation.getUser() == user));
+	}
+
 	@Test
 	void testAmendTaxCalculation_TaxNotFound() {
 		lenient().when(taxCalculationRepository.findByUserUserIdAndTaxYearAndIsAmended(USER_ID, Year.of(YEAR), 0))
 				.thenReturn(Optional.empty());
+		when(taxYearSummaryService.getTotals(USER_ID, YEAR)).thenReturn(totals(incomeSummary, deductionSummary));
 
 		assertThrows(ResourceNotFoundException.class,
 				() -> taxCalculationService.amendTaxCalculation(USER_ID, amendmentRequestDTO));
@@ -259,8 +295,9 @@ class TaxCalculationServiceImplTest {
 
 	@Test
 	void testCalculateGrossIncome_ResourceNotFoundException() {
-		// Mock empty income list
-		when(incomeRepository.findByUserUserIdAndIncomeDateYear(1L, 2023)).thenReturn(Collections.emptyList());
+		// Mock empty income aggregate
+		when(taxYearSummaryService.getTotals(1L, 2023))
+				.thenReturn(totals(new AmountSummary(null, 0L), new AmountSummary(null, 0L)));
 
 		// Assert exception is thrown
 		ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -272,8 +309,9 @@ class TaxCalculationServiceImplTest {
 
 	@Test
 	void testCalculateTotalDeductions_ResourceNotFoundException() {
-		// Mock empty deduction list
-		when(deductionRepository.findByUserUserIdAndDeductionDateYear(1L, 2023)).thenReturn(Collections.emptyList());
+		// Mock empty deduction aggregate
+		when(taxYearSummaryService.getTotals(1L, 2023))
+				.thenReturn(totals(new AmountSummary(null, 0L), new AmountSummary(null, 0L)));
 
 		// Assert exception is thrown
 		ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -295,4 +333,203 @@ class TaxCalculationServiceImplTest {
 		assertEquals(expectedTax, result, "Tax should be correctly calculated for income above last slab");
 	}
 
+	@Test
+	void testSlabBasedTaxCalculation_ForTaxYear() {
+		BigDecimal result = taxCalculationService.slabBasedTaxCalculation(new BigDecimal("1500000"), Year.of(YEAR));
+		BigDecimal expectedTax = new BigDecimal("105000.00"); // 20000 + 40000 + (300000 * 15%)
+		assertEquals(expectedTax, result, "Tax should use the regime in force for the tax year");
+	}
+
+	@Test
+	void testSlabBasedTaxCalculation_YearBeforeFirstRegime() {
+		BigDecimal result = taxCalculationService.slabBasedTaxCalculation(new BigDecimal("1000000"), Year.of(2020));
+		assertEquals(new BigDecimal("40000.00"), result, "Older years should fall back to the earliest regime");
+	}
+
+	@Test
+	void testCalculateGrossIncome_FromAggregate() {
+		when(taxYearSummaryService.getTotals(USER_ID, YEAR))
+				.thenReturn(totals(new AmountSummary(new BigDecimal("251200.75"), 2L), new AmountSummary(null, 0L)));
+
+		assertEquals(new BigDecimal("251200.75"), taxCalculationService.calculateGrossIncome(USER_ID, YEAR));
+	}
+
+	@Test
+	void testCalculateAndSaveTaxLiability_UsesAggregates() {
+		when(taxYearSummaryService.getTotals(USER_ID, YEAR)).thenReturn(totals(incomeSummary, deductionSummary));
+		when(userService.getUserReference(USER_ID)).thenReturn(user);
+		when(taxCalculationRepository.save(any(TaxCalculation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		TaxCalculation saved = taxCalculationService.calculateAndSaveTaxLiability(USER_ID, YEAR);
+		assertEquals(new BigDecimal("450000"), saved.getTaxableIncome());
+		assertEquals(new BigDecimal("2500.00"), saved.getTaxLiability());
+		verify(taxCalculationCacheService).evictUser(USER_ID);
+	}
+
+	@Test
+	void testCalculateAndSaveTaxLiability_MissingDeductions() {
+		when(taxYearSummaryService.getTotals(USER_ID, YEAR)).thenReturn(
+				totals(incomeSummary, new AmountSummary(null, 0L)));
+
+		assertThrows(ResourceNotFoundException.class,
+				() -> taxCalculationService.calculateAndSaveTaxLiability(USER_ID, YEAR));
+	}
+
+	@Test
+	void testCalculateAndUpdateTaxLiability_RoundsHalfUpToPaise() {
+		when(taxCalculationRepository.findByUserUserIdAndTaxYear(USER_ID, Year.of(YEAR)))
+				.thenReturn(Optional.of(testTaxCalculation));
+		when(taxYearSummaryService.getTotals(USER_ID, YEAR))
+				.thenReturn(totals(new AmountSummary(new BigDecimal("450000.10"), 1L), deductionSummary));
+		when(taxCalculationRepository.save(any(TaxCalculation.class))).thenReturn(testTaxCalculation);
+
+		// (400000.10 - 400000) * 5% = 0.005, rounded half up
+		TaxCalculation updated = taxCalculationService.calculateAndUpdateTaxLiability(USER_ID, YEAR);
+		assertEquals(new BigDecimal("0.01"), updated.getTaxLiability());
+	}
+
+	@Test
+	void testCalculateTaxLiabilityInBulk_AllUsers() {
+		when(incomeRepository.summarizeByTaxYearGroupByUser(Year.of(YEAR)))
+				.thenReturn(List.of(new UserAmountSummary(1L, new BigDecimal("500000"), 2L),
+						new UserAmountSummary(2L, new BigDecimal("1300000"), 1L),
+						new UserAmountSummary(3L, new BigDecimal("700000"), 1L)));
+		when(deductionRepository.summarizeByTaxYearGroupByUser(Year.of(YEAR)))
+				.thenReturn(List.of(new UserAmountSummary(1L, new BigDecimal("50000"), 1L),
+						new UserAmountSummary(2L, new BigDecimal("100000"), 1L)));
+		when(taxCalculationRepository.findIdsByTaxYearAndIsAmended(Year.of(YEAR), 0))
+				.thenReturn(List.of(new UserTaxCalculationId(2L, 20L)));
+		when(taxCalculationBatchRepository.insertAll(anyList())).thenReturn(1);
+		when(taxCalculationBatchRepository.updateAll(anyList())).thenReturn(1);
+
+		BulkTaxCalculationDTO result = taxCalculationService.calculateTaxLiabilityInBulk(YEAR, null);
+
+		assertEquals(1, result.getCreated());
+		assertEquals(1, result.getUpdated());
+		assertEquals(1, result.getSkipped());
+		assertEquals(3, result.getOutcomes().size());
+		assertEquals("Created", result.getOutcomes().get(0).getStatus());
+		assertEquals(new BigDecimal("2500.00"), result.getOutcomes().get(0).getTaxLiability());
+		assertEquals("Updated", result.getOutcomes().get(1).getStatus());
+		assertEquals(new BigDecimal("60000.00"), result.getOutcomes().get(1).getTaxLiability());
+		assertEquals("Skipped", result.getOutcomes().get(2).getStatus());
+	}
+
+	@Test
+	void testCalculateTaxLiabilityInBulk_SelectedUsers() {
+		Set<Long> userIds = Set.of(USER_ID);
+		when(incomeRepository.summarizeByTaxYearAndUserIdsGroupByUser(Year.of(YEAR), List.of(USER_ID)))
+				.thenReturn(List.of(new UserAmountSummary(USER_ID, new BigDecimal("500000"), 1L)));
+		when(deductionRepository.summarizeByTaxYearAndUserIdsGroupByUser(Year.of(YEAR), List.of(USER_ID)))
+				.thenReturn(List.of(new UserAmountSummary(USER_ID, new BigDecimal("50000"), 1L)));
+		when(taxCalculationRepository.findIdsByTaxYearAndIsAmendedAndUserIds(Year.of(YEAR), 0, List.of(USER_ID)))
+				.thenReturn(List.of());
+		when(taxCalculationBatchRepository.insertAll(anyList())).thenReturn(1);
+
+		BulkTaxCalculationDTO result = taxCalculationService.calculateTaxLiabilityInBulk(YEAR, userIds);
+
+		assertEquals(1, result.getCreated());
+		assertEquals(0, result.getUpdated());
+		assertEquals(0, result.getSkipped());
+	}
+
+	@Test
+	void testGetAmendmentHistory_Success() {
+		TaxCalculationHistoryDTO original = TaxCalculationHistoryDTO.builder().taxCalculationId(1L)
+				.taxYear(Year.of(YEAR)).taxLiability(new BigDecimal("2500.00")).build();
+		TaxCalculationHistoryDTO amendment = TaxCalculationHistoryDTO.builder().taxCalculationId(2L)
+				.taxYear(Year.of(YEAR)).isAmended(1).taxLiability(new BigDecimal("5000.00"))
+				.originalTaxCalculationId(1L).originalTaxLiability(new BigDecimal("2500.00")).build();
+		when(taxCalculationRepository.findHistoryByUserId(USER_ID)).thenReturn(List.of(original, amendment));
+
+		List<TaxCalculationHistoryDTO> history = taxCalculationService.getAmendmentHistory(USER_ID);
+
+		assertEquals(2, history.size());
+		assertEquals(1L, history.get(1).getOriginalTaxCalculationId());
+		verify(replicaLagGuard).readFor(USER_ID);
+	}
+
+	@Test
+	void testGetAmendmentHistory_NotFound() {
+		when(taxCalculationRepository.findHistoryByUserId(USER_ID)).thenReturn(List.of());
+
+		assertThrows(ResourceNotFoundException.class, () -> taxCalculationService.getAmendmentHistory(USER_ID));
+	}
+
+	@Test
+	void testCompareTaxRegimes_AppliesDeductionEligibility() {
+		when(taxYearSummaryService.getTotals(USER_ID, YEAR)).thenReturn(totals(
+				new AmountSummary(new BigDecimal("1000000"), 2L), new AmountSummary(new BigDecimal("250000"), 2L)));
+		when(deductionRepository.summarizeByUserUserIdAndTaxYearGroupByType(USER_ID, Year.of(YEAR)))
+				.thenReturn(List.of(new DeductionTypeSummary("Retirement Contributions", new BigDecimal("50000"), 1L),
+						new DeductionTypeSummary("Home Loan Interest", new BigDecimal("200000"), 1L)));
+
+		RegimeComparisonDTO result = taxCalculationService.compareTaxRegimes(USER_ID, YEAR);
+
+		assertEquals(2, result.getRegimes().size());
+		RegimeLiabilityDTO newRegime = result.getRegimes().get(0);
+		assertEquals(new BigDecimal("950000"), newRegime.getTaxableIncome());
+		assertEquals(new BigDecimal("35000.00"), newRegime.getTaxLiability()); // 20000 + (150000 * 10%)
+		RegimeLiabilityDTO oldRegime = result.getRegimes().get(1);
+		assertEquals(new BigDecimal("750000"), oldRegime.getTaxableIncome());
+		assertEquals(new BigDecimal("62500.00"), oldRegime.getTaxLiability()); // 12500 + (250000 * 20%)
+		assertEquals(TaxRegimes.NEW_REGIME, result.getCheapestRegime());
+	}
+
+	@Test
+	void testCompareTaxRegimes_MissingIncome() {
+		when(taxYearSummaryService.getTotals(USER_ID, YEAR))
+				.thenReturn(totals(new AmountSummary(null, 0L), deductionSummary));
+
+		assertThrows(ResourceNotFoundException.class, () -> taxCalculationService.compareTaxRegimes(USER_ID, YEAR));
+	}
+
+	@Test
+	void testSimulateTaxLiability_RangeWithDeductionChanges() {
+		TaxSimulationRequestDTO request = TaxSimulationRequestDTO.builder().taxYear(YEAR)
+				.rangeStart(new BigDecimal("800000")).rangeEnd(new BigDecimal("1200000"))
+				.rangeStep(new BigDecimal("200000")).deductionChanges(List.of(BigDecimal.ZERO, new BigDecimal("100000")))
+				.build();
+
+		TaxSimulationDTO result = taxCalculationService.simulateTaxLiability(request);
+
+		assertEquals(YEAR, result.getTaxYear());
+		assertEquals(6, result.getPoints().size());
+		TaxSimulationPointDTO last = result.getPoints().get(5);
+		assertEquals(new BigDecimal("1100000"), last.getAdjustedTaxableIncome());
+		assertEquals(new BigDecimal("50000.00"), last.getTaxLiability()); // 20000 + (300000 * 10%)
+		verifyNoInteractions(taxYearSummaryService, taxCalculationRepository);
+	}
+
+	@Test
+	void testSimulateTaxLiability_IncomeList() {
+		TaxSimulationRequestDTO request = TaxSimulationRequestDTO.builder().taxYear(YEAR)
+				.taxableIncomes(List.of(new BigDecimal("400000"), new BigDecimal("450000.10"))).build();
+
+		List<TaxSimulationPointDTO> points = taxCalculationService.simulateTaxLiability(request).getPoints();
+
+		assertEquals(new BigDecimal("0.00"), points.get(0).getTaxLiability());
+		assertEquals(new BigDecimal("2500.01"), points.get(1).getTaxLiability());
+	}
+
+	@Test
+	void testSimulateTaxLiability_TooManyPoints() {
+		TaxSimulationRequestDTO request = TaxSimulationRequestDTO.builder().rangeStart(BigDecimal.ZERO)
+				.rangeEnd(new BigDecimal("10000000")).rangeStep(BigDecimal.ONE).build();
+
+		assertThrows(InvalidRequestException.class, () -> taxCalculationService.simulateTaxLiability(request));
+	}
+
+	@Test
+	void testSimulateTaxLiability_NoIncomes() {
+		TaxSimulationRequestDTO request = TaxSimulationRequestDTO.builder().rangeStart(BigDecimal.ZERO).build();
+
+		assertThrows(InvalidRequestException.class, () -> taxCalculationService.simulateTaxLiability(request));
+	}
+
+	private TaxYearTotalsDTO totals(AmountSummary income, AmountSummary deduction) {
+		return TaxYearTotalsDTO.builder().userId(USER_ID).taxYear(YEAR).grossIncome(income.total())
+				.incomeCount(income.count()).totalDeductions(deduction.total()).deductionCount(deduction.count())
+				.build();
+	}
 }
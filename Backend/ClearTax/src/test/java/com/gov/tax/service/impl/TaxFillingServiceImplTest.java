@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -17,22 +20,28 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.gov.tax.config.ReplicaLagGuard;
+import com.gov.tax.dto.DeductionDTO;
+import com.gov.tax.dto.IncomeDTO;
 import com.gov.tax.dto.TaxFillingDTO;
-import com.gov.tax.entity.Deduction;
-import com.gov.tax.entity.Income;
+import com.gov.tax.dto.TaxFillingHistoryDTO;
+import com.gov.tax.entity.PaymentStatus;
 import com.gov.tax.entity.TaxCalculation;
 import com.gov.tax.entity.TaxFilling;
+import com.gov.tax.entity.TaxPayment;
 import com.gov.tax.entity.User;
 import com.gov.tax.exception.ResourceAlreadyExistsException;
 import com.gov.tax.exception.ResourceNotFoundException;
 import com.gov.tax.repository.TaxCalculationRepository;
+import com.gov.tax.repository.TaxFillingInsertRepository;
 import com.gov.tax.repository.TaxFillingRepository;
-import com.gov.tax.repository.TaxPaymentRepository;
 import com.gov.tax.repository.UserRepository;
+import com.gov.tax.repository.projection.FilingSubmission;
 import com.gov.tax.service.DeductionService;
 import com.gov.tax.service.IncomeService;
 import com.itextpdf.text.DocumentException;
@@ -46,13 +55,15 @@ class TaxFillingServiceImplTest {
 	@Mock
 	private TaxCalculationRepository taxCalculationRepository;
 	@Mock
-	private TaxPaymentRepository taxPaymentRepository;
+	private TaxFillingInsertRepository taxFillingInsertRepository;
 	@Mock
 	private UserRepository userRepository;
 	@Mock
 	private IncomeService incomeService;
 	@Mock
 	private DeductionService deductionService;
+	@Mock
+	private ReplicaLagGuard replicaLagGuard;
 
 	@InjectMocks
 	private TaxFillingServiceImpl taxFillingServiceImpl;
@@ -123,32 +134,66 @@ class TaxFillingServiceImplTest {
 
 	@Test
 	void submitTaxReturn_Success() {
-		when(taxFillingRepository.isPdfGeneratedForUserAndYear(USER_ID, TAX_YEAR)).thenReturn(true);
 		taxFilling.setFillingStatus("Pending");
-		when(taxFillingRepository.findByUserUserIdAndTaxYear(USER_ID, TAX_YEAR)).thenReturn(Optional.of(taxFilling));
+		taxFilling.setPdfGenerated(true);
+		when(taxFillingRepository.findSubmissionByUserIdAndTaxYear(USER_ID, TAX_YEAR))
+				.thenReturn(Optional.of(new FilingSubmission(taxFilling, BigDecimal.ZERO)));
+		when(taxFillingRepository.markFiled(taxFilling.getTaxFilingId(), LocalDate.now())).thenReturn(1);
 
-		taxCalculation.setTaxLiability(BigDecimal.ZERO);
-		when(taxCalculationRepository.findByUserUserIdAndTaxYear(USER_ID, TAX_YEAR))
-				.thenReturn(Optional.of(taxCalculation));
+		String result = taxFillingServiceImpl.submitTaxReturn(USER_ID, TAX_YEAR);
+		assertEquals("Tax return successfully filed.", result);
+		verify(taxFillingInsertRepository, never()).insertPaymentIfAbsent(any(TaxPayment.class));
+	}
+
+	@Test
+	void submitTaxReturn_WithLiability_CreatesPendingPayment() {
+		taxFilling.setFillingStatus("Pending");
+		taxFilling.setPdfGenerated(true);
+		when(taxFillingRepository.findSubmissionByUserIdAndTaxYear(USER_ID, TAX_YEAR))
+				.thenReturn(Optional.of(new FilingSubmission(taxFilling, BigDecimal.valueOf(5000))));
+		when(taxFillingRepository.markFiled(taxFilling.getTaxFilingId(), LocalDate.now())).thenReturn(1);
 
 		String result = taxFillingServiceImpl.submitTaxReturn(USER_ID, TAX_YEAR);
 		assertEquals("Tax return successfully filed.", result);
+		ArgumentCaptor<TaxPayment> payment = ArgumentCaptor.forClass(TaxPayment.class);
+		verify(taxFillingInsertRepository).insertPaymentIfAbsent(payment.capture());
+		assertEquals(user, payment.getValue().getUser());
+		assertEquals(BigDecimal.valueOf(5000), payment.getValue().getAmountPaid());
+		assertEquals(PaymentStatus.PENDING, payment.getValue().getPaymentStatus());
+		assertEquals(taxFilling, payment.getValue().getTaxFiling());
 	}
 
 	@Test
 	void submitTaxReturn_PdfNotGenerated_Exception() {
-		when(taxFillingRepository.isPdfGeneratedForUserAndYear(USER_ID, TAX_YEAR)).thenReturn(false);
+		taxFilling.setPdfGenerated(false);
+		when(taxFillingRepository.findSubmissionByUserIdAndTaxYear(USER_ID, TAX_YEAR))
+				.thenReturn(Optional.of(new FilingSubmission(taxFilling, BigDecimal.ZERO)));
 		assertThrows(ResourceNotFoundException.class, () -> taxFillingServiceImpl.submitTaxReturn(USER_ID, TAX_YEAR));
 	}
 
 	@Test
 	void submitTaxReturn_AlreadyFiled() {
-		when(taxFillingRepository.isPdfGeneratedForUserAndYear(USER_ID, TAX_YEAR)).thenReturn(true);
 		taxFilling.setFillingStatus("Filled");
-		when(taxFillingRepository.findByUserUserIdAndTaxYear(USER_ID, TAX_YEAR)).thenReturn(Optional.of(taxFilling));
+		taxFilling.setPdfGenerated(true);
+		when(taxFillingRepository.findSubmissionByUserIdAndTaxYear(USER_ID, TAX_YEAR))
+				.thenReturn(Optional.of(new FilingSubmission(taxFilling, BigDecimal.ZERO)));
+
+		String result = taxFillingServiceImpl.submitTaxReturn(USER_ID, TAX_YEAR);
+		assertEquals("Tax return already Filed", result);
+		verify(taxFillingRepository, never()).markFiled(any(), any());
+	}
+
+	@Test
+	void submitTaxReturn_FiledConcurrently() {
+		taxFilling.setFillingStatus("Pending");
+		taxFilling.setPdfGenerated(true);
+		when(taxFillingRepository.findSubmissionByUserIdAndTaxYear(USER_ID, TAX_YEAR))
+				.thenReturn(Optional.of(new FilingSubmission(taxFilling, BigDecimal.valueOf(5000))));
+		when(taxFillingRepository.markFiled(taxFilling.getTaxFilingId(), LocalDate.now())).thenReturn(0);
 
 		String result = taxFillingServiceImpl.submitTaxReturn(USER_ID, TAX_YEAR);
 		assertEquals("Tax return already Filed", result);
+		verify(taxFillingInsertRepository, never()).insertPaymentIfAbsent(any(TaxPayment.class));
 	}
 
 	@Test
@@ -168,13 +213,13 @@ class TaxFillingServiceImplTest {
 
 	@Test
 	void getTaxFillingHistory_Success() {
-		when(taxFillingRepository.findAllByUserUserId(USER_ID)).thenReturn(List.of(new TaxFilling()));
+		when(taxFillingRepository.findHistoryByUserId(USER_ID)).thenReturn(List.of(new TaxFillingHistoryDTO()));
 		assertFalse(taxFillingServiceImpl.getTaxFillingHistory(USER_ID).isEmpty());
 	}
 
 	@Test
 	void getTaxFillingHistory_EmptyHistory_Exception() {
-		when(taxFillingRepository.findAllByUserUserId(USER_ID)).thenReturn(List.of());
+		when(taxFillingRepository.findHistoryByUserId(USER_ID)).thenReturn(List.of());
 		assertThrows(ResourceNotFoundException.class, () -> taxFillingServiceImpl.getTaxFillingHistory(USER_ID));
 	}
 
@@ -185,12 +230,29 @@ class TaxFillingServiceImplTest {
 		when(taxFillingRepository.isPdfGeneratedForUserAndYear(USER_ID, TAX_YEAR)).thenReturn(false);
 		when(incomeService.getIncomesByYearAndUserId(USER_ID, Year.now().getValue(), 0)).thenReturn(List.of());
 		when(deductionService.getDeductionsByYearAndUserId(USER_ID, Year.now().getValue(), 0)).thenReturn(List.of());
-		when(userRepository.findById(USER_ID)).thenReturn(Optional.of(new User()));
+		when(userRepository.existsById(USER_ID)).thenReturn(true);
+		when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+		when(taxFillingInsertRepository.insertFilingIfAbsent(any(TaxFilling.class))).thenReturn(true);
 		taxFillingDTO.setUserId(USER_ID);
 		byte[] pdf = taxFillingServiceImpl.generateTaxFillingPdf(taxFillingDTO);
 		assertNotNull(pdf, "PDF should be generated successfully.");
 	}
 
+	@Test
+	void generateTaxFillingPdf_SavedConcurrently() throws IOException, DocumentException {
+		when(taxCalculationRepository.findByUserUserIdAndTaxYear(USER_ID, TAX_YEAR))
+				.thenReturn(Optional.of(new TaxCalculation()));
+		when(taxFillingRepository.isPdfGeneratedForUserAndYear(USER_ID, TAX_YEAR)).thenReturn(false);
+		when(incomeService.getIncomesByYearAndUserId(USER_ID, Year.now().getValue(), 0)).thenReturn(List.of());
+		when(deductionService.getDeductionsByYearAndUserId(USER_ID, Year.now().getValue(), 0)).thenReturn(List.of());
+		when(userRepository.existsById(USER_ID)).thenReturn(true);
+		when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+		when(taxFillingInsertRepository.insertFilingIfAbsent(any(TaxFilling.class))).thenReturn(false);
+		taxFillingDTO.setUserId(USER_ID);
+		byte[] pdf = taxFillingServiceImpl.generateTaxFillingPdf(taxFillingDTO);
+		assertNotNull(pdf, "The PDF should be returned when a concurrent request saved the filing.");
+	}
+
 	@Test
 	void generateTaxFillingPdf_TaxCalculationNotFound_Exception() {
 		when(taxCalculationRepository.findByUserUserIdAndTaxYear(USER_ID, TAX_YEAR)).thenReturn(Optional.empty());
@@ -210,11 +272,11 @@ class TaxFillingServiceImplTest {
 	@Test
 	void createTaxFillingPdf_Success() throws IOException, DocumentException {
 		// Mocking income with non-null amount
-		Income income = new Income();
+		IncomeDTO income = new IncomeDTO();
 		income.setAmount(BigDecimal.valueOf(50000)); // Set a valid amount
 
 		// Mocking deduction with valid data
-		Deduction deduction = new Deduction();
+		DeductionDTO deduction = new DeductionDTO();
 		deduction.setAmount(BigDecimal.valueOf(10000)); // Set a valid deduction
 
 		// Mocking income and deduction service calls
@@ -253,7 +315,7 @@ class TaxFillingServiceImplTest {
 	void createTaxFillingPdf_DocumentException_Thrown() {
 		// Simulate deduction service throwing a DocumentException
 		when(incomeService.getIncomesByYearAndUserId(USER_ID, Year.now().getValue(), 0))
-				.thenReturn(List.of(new Income()));
+				.thenReturn(List.of(new IncomeDTO()));
 		when(deductionService.getDeductionsByYearAndUserId(USER_ID, Year.now().getValue(), 0))
 				.thenThrow(new RuntimeException("Failed to fetch deductions"));
 
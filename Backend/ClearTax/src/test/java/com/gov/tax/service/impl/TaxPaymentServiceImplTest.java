@@ -37,17 +37,25 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.gov.tax.config.ReplicaLagGuard;
+import com.gov.tax.dto.DeductionDTO;
+import com.gov.tax.dto.IncomeDTO;
+import com.gov.tax.dto.TaxPaymentDTO;
 import com.gov.tax.dto.UserDTO;
-import com.gov.tax.entity.Deduction;
-import com.gov.tax.entity.Income;
+import com.gov.tax.entity.PaymentStatus;
 import com.gov.tax.entity.TaxCalculation;
 import com.gov.tax.entity.TaxPayment;
 import com.gov.tax.entity.User;
+import com.gov.tax.exception.InvalidRequestException;
 import com.gov.tax.exception.ResourceNotFoundException;
-import com.gov.tax.mapper.UserMapper;
 import com.gov.tax.repository.TaxCalculationRepository;
 import com.gov.tax.repository.TaxPaymentRepository;
 import com.gov.tax.service.DeductionService;
@@ -74,8 +82,6 @@ class TaxPaymentServiceImplTest {
 	@Mock
 	private UserService userService;
 
-	@Mock
-	private UserMapper userMapper;
 
 	@Mock
 	private IncomeService incomeService;
@@ -86,6 +92,12 @@ class TaxPaymentServiceImplTest {
 	@Mock
 	private TaxCalculationRepository taxCalculationRepository;
 
+	@Spy
+	private OptimisticLockRetry optimisticLockRetry = new OptimisticLockRetry(3);
+
+	@Mock
+	private ReplicaLagGuard replicaLagGuard;
+
 	@Mock
 	private RazorpayClient razorpayClient;
 
@@ -96,13 +108,14 @@ class TaxPaymentServiceImplTest {
 	private Order mockOrder;
 
 	private UserDTO mockUser;
-	private Income testIncome;
-	private Deduction testDeduction;
-	private List<Income> mockIncomes;
-	private List<Deduction> mockDeductions;
+	private IncomeDTO testIncome;
+	private DeductionDTO testDeduction;
+	private List<IncomeDTO> mockIncomes;
+	private List<DeductionDTO> mockDeductions;
 	private TaxPayment mockTaxPayment;
 	private TaxCalculation mockTaxCalculation;
 	private List<TaxPayment> mockTaxPayments;
+	private List<TaxPaymentDTO> mockPaymentDTOs;
     private TaxCalculation mockAmendmentTaxCalculation;
 
 	@BeforeEach
@@ -110,11 +123,11 @@ class TaxPaymentServiceImplTest {
 		mockUser = new UserDTO();
 		mockUser.setUserId(1L);
 
-		testIncome = new Income();
+		testIncome = new IncomeDTO();
 		testIncome.setAmount(new BigDecimal("500000"));
 		testIncome.setIncomeDate(LocalDate.of(2025, 1, 1));
 
-		testDeduction = new Deduction();
+		testDeduction = new DeductionDTO();
 		testDeduction.setAmount(new BigDecimal("50000"));
 		testDeduction.setDeductionDate(LocalDate.of(2025, 1, 1));
 
@@ -140,20 +153,22 @@ class TaxPaymentServiceImplTest {
 		mockAmendmentTaxCalculation.setIsAmended(1);
 
 		mockTaxPayment = new TaxPayment();
-		mockTaxPayment.setPaymentStatus("Pending");
+		mockTaxPayment.setPaymentStatus(PaymentStatus.PENDING);
 		mockTaxPayment.setAmountPaid(BigDecimal.valueOf(5000));
 		mockTaxPayment.setTransactionId(null);
 
 		mockTaxPayments = new ArrayList<>();
 		mockTaxPayments.add(mockTaxPayment);
 		TaxPayment completedPayment = new TaxPayment();
-		completedPayment.setPaymentStatus("Completed");
+		completedPayment.setPaymentStatus(PaymentStatus.COMPLETED);
 
 		TaxPayment pendingPayment = new TaxPayment();
-		pendingPayment.setPaymentStatus("Pending");
+		pendingPayment.setPaymentStatus(PaymentStatus.PENDING);
 
 		mockTaxPayments = Arrays.asList(completedPayment, pendingPayment);
 
+		mockPaymentDTOs = List.of(TaxPaymentDTO.builder().paymentStatus(PaymentStatus.COMPLETED).build());
+
 		mockOrder = mock(Order.class);
 		orderClient = mock(OrderClient.class);
 		razorpayClient = mock(RazorpayClient.class);
@@ -167,42 +182,17 @@ class TaxPaymentServiceImplTest {
 // =====getTaxPaymentByUserId()======================
 	@Test
 	void testGetTaxPaymentByUserId_Success() {
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
-		TaxPayment result = taxPaymentService.getTaxPaymentByUserId(1L);
-		assertNotNull(result);
-		assertEquals("Pending", result.getPaymentStatus());
-	}
-
-	@Test
-	void testGetTaxPaymentByUserId_NoDataFound() {
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(Collections.emptyList());
-		assertThrows(ResourceNotFoundException.class, () -> taxPaymentService.getTaxPaymentByUserId(1L));
-	}
-
-	@Test
-	void testGetTaxPaymentByUserId_Success_PendingPaymentFound() {
-		// Ensure one of the payments is "Pending"
-		TaxPayment pendingPayment = new TaxPayment();
-		pendingPayment.setPaymentStatus("Pending");
-
-		List<TaxPayment> taxPayments = List.of(pendingPayment, // Pending payment found
-				createTaxPayment("Completed"), createTaxPayment("Failed"));
-
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(taxPayments);
-
-		TaxPayment result = taxPaymentService.getTaxPaymentByUserId(1L);
-
+		// Only the first pending payment is read
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.PENDING, PageRequest.of(0, 1)))
+				.thenReturn(List.of(TaxPaymentDTO.builder().paymentStatus(PaymentStatus.PENDING).build()));
+		TaxPaymentDTO result = taxPaymentService.getTaxPaymentByUserId(1L);
 		assertNotNull(result);
-		assertEquals("Pending", result.getPaymentStatus());
+		assertEquals(PaymentStatus.PENDING, result.getPaymentStatus());
 	}
 
 	@Test
 	void testGetTaxPaymentByUserId_NoPendingPayment() {
-		// No "Pending" status in tax payments
-		List<TaxPayment> taxPayments = List.of(createTaxPayment("Completed"), createTaxPayment("Failed"),
-				createTaxPayment("Refunded"));
-
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(taxPayments);
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.PENDING, PageRequest.of(0, 1))).thenReturn(Collections.emptyList());
 
 		ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
 				() -> taxPaymentService.getTaxPaymentByUserId(1L));
@@ -210,26 +200,20 @@ class TaxPaymentServiceImplTest {
 		assertEquals("No Tax Payments found with NULL transactionId!", exception.getMessage());
 	}
 
-	// Utility method to create TaxPayment with different statuses
-	private TaxPayment createTaxPayment(String status) {
-		TaxPayment taxPayment = new TaxPayment();
-		taxPayment.setPaymentStatus(status);
-		return taxPayment;
-	}
-
 //================getTaxPaymentByUserIdAndTransactionId()===================================	
 
 	@Test
 	void testGetTaxPaymentByUserIdAndTransactionId_Success() {
-		when(taxPaymentRepository.findByUserUserIdAndTransactionId(1L, "txn123")).thenReturn(mockTaxPayment);
-		TaxPayment result = taxPaymentService.getTaxPaymentByUserIdAndTransactionId(1L, "txn123");
+		when(taxPaymentRepository.findDetailsByUserIdAndTransactionId(1L, "txn123"))
+				.thenReturn(Optional.of(TaxPaymentDTO.builder().paymentStatus(PaymentStatus.PENDING).build()));
+		TaxPaymentDTO result = taxPaymentService.getTaxPaymentByUserIdAndTransactionId(1L, "txn123");
 		assertNotNull(result);
-		assertEquals("Pending", result.getPaymentStatus());
+		assertEquals(PaymentStatus.PENDING, result.getPaymentStatus());
 	}
 
 	@Test
 	void testGetTaxPaymentByUserIdAndTransactionId_NotFound() {
-		when(taxPaymentRepository.findByUserUserIdAndTransactionId(1L, "txn123")).thenReturn(null);
+		when(taxPaymentRepository.findDetailsByUserIdAndTransactionId(1L, "txn123")).thenReturn(Optional.empty());
 		assertThrows(ResourceNotFoundException.class,
 				() -> taxPaymentService.getTaxPaymentByUserIdAndTransactionId(1L, "txn123"));
 	}
@@ -237,7 +221,7 @@ class TaxPaymentServiceImplTest {
 //============================payTaxAtRazorpay()==============================
 	@Test
 	void testPayTaxAtRazorpay_Success() throws RazorpayException, JSONException {
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findFirstByUserUserIdAndPaymentStatusOrderByTaxPaymentIdAsc(1L, PaymentStatus.PENDING)).thenReturn(Optional.of(mockTaxPayment));
 		when(taxCalculationRepository.findByUserUserIdAndTaxYearAndIsAmended(anyLong(), any(), anyInt()))
 				.thenReturn(Optional.of(mockTaxCalculation));
 
@@ -252,7 +236,7 @@ class TaxPaymentServiceImplTest {
 
 		// Assertions
 		assertNotNull(result);
-		assertEquals("Pending", result.getPaymentStatus());
+		assertEquals(PaymentStatus.PENDING, result.getPaymentStatus());
 		assertEquals("razorpay_order_123", result.getTransactionId());
 		verify(taxPaymentRepository, times(1)).save(any(TaxPayment.class));
 	}
@@ -269,7 +253,7 @@ class TaxPaymentServiceImplTest {
 
 	@Test
 	void testPayTaxAtRazorpay_NoPendingPaymentFound() {
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(Collections.emptyList());
+		when(taxPaymentRepository.findFirstByUserUserIdAndPaymentStatusOrderByTaxPaymentIdAsc(1L, PaymentStatus.PENDING)).thenReturn(Optional.empty());
 		when(taxCalculationRepository.findByUserUserIdAndTaxYearAndIsAmended(anyLong(), any(), anyInt()))
 				.thenReturn(Optional.of(mockTaxCalculation));
 
@@ -280,7 +264,7 @@ class TaxPaymentServiceImplTest {
 
 	@Test
 	void testPayTaxAtRazorpay_OrderCreationFailure() throws RazorpayException {
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findFirstByUserUserIdAndPaymentStatusOrderByTaxPaymentIdAsc(1L, PaymentStatus.PENDING)).thenReturn(Optional.of(mockTaxPayment));
 		when(taxCalculationRepository.findByUserUserIdAndTaxYearAndIsAmended(anyLong(), any(), anyInt()))
 				.thenReturn(Optional.of(mockTaxCalculation));
 
@@ -295,7 +279,7 @@ class TaxPaymentServiceImplTest {
 
 	@Test
 	void testPayTaxAtRazorpay_RazorpayExceptionThrown() throws RazorpayException {
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findFirstByUserUserIdAndPaymentStatusOrderByTaxPaymentIdAsc(1L, PaymentStatus.PENDING)).thenReturn(Optional.of(mockTaxPayment));
 		when(taxCalculationRepository.findByUserUserIdAndTaxYearAndIsAmended(anyLong(), any(), anyInt()))
 				.thenReturn(Optional.of(mockTaxCalculation));
 
@@ -312,7 +296,7 @@ class TaxPaymentServiceImplTest {
 	void testPayTaxAtRazorpay_ValidatesOrderAmount() throws RazorpayException, JSONException {
 		mockTaxPayment.setAmountPaid(BigDecimal.valueOf(5000)); // Example amount
 
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(List.of(mockTaxPayment));
+		when(taxPaymentRepository.findFirstByUserUserIdAndPaymentStatusOrderByTaxPaymentIdAsc(1L, PaymentStatus.PENDING)).thenReturn(Optional.of(mockTaxPayment));
 		when(taxCalculationRepository.findByUserUserIdAndTaxYearAndIsAmended(anyLong(), any(), anyInt()))
 				.thenReturn(Optional.of(mockTaxCalculation));
 
@@ -334,7 +318,7 @@ class TaxPaymentServiceImplTest {
 
 	@Test
 	void testPayTaxAtRazorpay_OrderReceiptFormatValidation() throws RazorpayException, JSONException {
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findFirstByUserUserIdAndPaymentStatusOrderByTaxPaymentIdAsc(1L, PaymentStatus.PENDING)).thenReturn(Optional.of(mockTaxPayment));
 		when(taxCalculationRepository.findByUserUserIdAndTaxYearAndIsAmended(anyLong(), any(), anyInt()))
 				.thenReturn(Optional.of(mockTaxCalculation));
 
@@ -369,10 +353,69 @@ class TaxPaymentServiceImplTest {
 
 			// Assertions
 			assertEquals("success", result);
-			assertEquals("Completed", mockTaxPayment.getPaymentStatus());
+			assertEquals(PaymentStatus.COMPLETED, mockTaxPayment.getPaymentStatus());
+		}
+	}
+
+	@Test
+	void testVerifyPayment_ConcurrentUpdate_Retried() throws RazorpayException {
+		try (MockedStatic<Utils> mockedStatic = mockStatic(Utils.class)) {
+			mockedStatic.when(() -> Utils.verifySignature(eq("order123|payment123"), eq("signature123"), any()))
+					.thenReturn(true);
+
+			// each attempt reads the payment afresh, still pending
+			when(taxPaymentRepository.findByTransactionId("order123")).thenAnswer(invocation -> pendingPayment());
+			when(taxPaymentRepository.save(any(TaxPayment.class)))
+					.thenThrow(new ObjectOptimisticLockingFailureException(TaxPayment.class, 1L))
+					.thenReturn(mockTaxPayment);
+
+			String result = taxPaymentService.verifyPayment("order123", "payment123", "signature123");
+
+			assertEquals("success", result);
+			verify(taxPaymentRepository, times(2)).findByTransactionId("order123");
+			verify(replicaLagGuard, times(2)).recordWrite(1L);
 		}
 	}
 
+	@Test
+	void testVerifyPayment_ConcurrentUpdate_RetriesExhausted() {
+		try (MockedStatic<Utils> mockedStatic = mockStatic(Utils.class)) {
+			mockedStatic.when(() -> Utils.verifySignature(eq("order123|payment123"), eq("signature123"), any()))
+					.thenReturn(true);
+
+			when(taxPaymentRepository.findByTransactionId("order123")).thenAnswer(invocation -> pendingPayment());
+			when(taxPaymentRepository.save(any(TaxPayment.class)))
+					.thenThrow(new ObjectOptimisticLockingFailureException(TaxPayment.class, 1L));
+
+			assertThrows(OptimisticLockingFailureException.class,
+					() -> taxPaymentService.verifyPayment("order123", "payment123", "signature123"));
+			verify(taxPaymentRepository, times(3)).save(any(TaxPayment.class));
+		}
+	}
+
+	@Test
+	void testVerifyPayment_AlreadyCompleted_NotReapplied() throws RazorpayException {
+		try (MockedStatic<Utils> mockedStatic = mockStatic(Utils.class)) {
+			mockedStatic.when(() -> Utils.verifySignature(eq("order123|payment123"), eq("signature123"), any()))
+					.thenReturn(true);
+			mockTaxPayment.setPaymentStatus(PaymentStatus.COMPLETED);
+			when(taxPaymentRepository.findByTransactionId("order123")).thenReturn(mockTaxPayment);
+
+			String result = taxPaymentService.verifyPayment("order123", "payment123", "signature123");
+
+			assertEquals("failure", result);
+			verify(taxPaymentRepository, never()).save(any(TaxPayment.class));
+		}
+	}
+
+	private TaxPayment pendingPayment() {
+		TaxPayment taxPayment = new TaxPayment();
+		taxPayment.setPaymentStatus(PaymentStatus.PENDING);
+		taxPayment.setAmountPaid(BigDecimal.valueOf(5000));
+		taxPayment.setUser(User.builder().userId(1L).build());
+		return taxPayment;
+	}
+
 	@Test
 	void testVerifyPayment_Failure_InvalidSignature() throws RazorpayException {
 		try (MockedStatic<Utils> mockedStatic = mockStatic(Utils.class)) {
@@ -463,38 +506,32 @@ class TaxPaymentServiceImplTest {
 //=======================getAllTaxPaymentByUserId()========================================
 	@Test
 	void testGetAllTaxPaymentByUserId_Success() {
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.COMPLETED, PageRequest.of(0, 50))).thenReturn(mockPaymentDTOs);
 
-		List<TaxPayment> result = taxPaymentService.getAllTaxPaymentByUserId(1L);
+		List<TaxPaymentDTO> result = taxPaymentService.getAllTaxPaymentByUserId(1L, 0, 50);
 
 		assertFalse(result.isEmpty());
-		assertEquals(1, result.size()); // Ensure only "Completed" payments are returned
-		assertEquals("Completed", result.get(0).getPaymentStatus());
+		assertEquals(1, result.size());
+		assertEquals(PaymentStatus.COMPLETED, result.get(0).getPaymentStatus());
 	}
 
 	@Test
-	void testGetAllTaxPaymentByUserId_NoPaymentsFound() {
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(Collections.emptyList());
+	void testGetAllTaxPaymentByUserId_NoCompletedPayments() {
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.COMPLETED, PageRequest.of(0, 50))).thenReturn(Collections.emptyList());
 
-		assertThrows(ResourceNotFoundException.class, () -> taxPaymentService.getAllTaxPaymentByUserId(1L));
+		assertThrows(ResourceNotFoundException.class, () -> taxPaymentService.getAllTaxPaymentByUserId(1L, 0, 50));
 	}
 
 	@Test
-	void testGetAllTaxPaymentByUserId_NoCompletedPayments() {
-		TaxPayment pendingPayment = new TaxPayment();
-		pendingPayment.setPaymentStatus("Pending");
-
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(Collections.singletonList(pendingPayment));
-
-		assertThrows(ResourceNotFoundException.class, () -> taxPaymentService.getAllTaxPaymentByUserId(1L));
+	void testGetAllTaxPaymentByUserId_InvalidPageSize() {
+		assertThrows(InvalidRequestException.class, () -> taxPaymentService.getAllTaxPaymentByUserId(1L, 0, 501));
+		verify(taxPaymentRepository, never()).findDetailsByUserIdAndPaymentStatus(any(), any(), any());
 	}
 
 //=================createPayment()================================================	
 	@Test
 	void testCreatePayment_Success() {
-		when(userService.getUserById(1L)).thenReturn(mockUser);
-
-		when(userMapper.toEntity(any(UserDTO.class))).thenReturn(new User()); // Ensure correct type
+		when(userService.getUserReference(1L)).thenReturn(new User());
 
 		taxPaymentService.createPayment(1L, BigDecimal.valueOf(10000));
 
@@ -564,13 +601,13 @@ class TaxPaymentServiceImplTest {
 	void testCreateTaxSummaryReport_Success() throws Exception {
 		mockTaxPayment.setPaymentDate(LocalDate.now());
 		mockTaxPayment.setAmountPaid(new BigDecimal(0));
-		mockTaxPayments.get(0).setPaymentDate(LocalDate.now());
-		mockTaxPayments.get(0).setAmountPaid(new BigDecimal(0));
+		mockPaymentDTOs.get(0).setPaymentDate(LocalDate.now());
+		mockPaymentDTOs.get(0).setAmountPaid(new BigDecimal(0));
 		when(userService.getUserById(1L)).thenReturn(mockUser);
 		when(incomeService.getIncomesByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockIncomes);
 		when(deductionService.getDeductionsByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockDeductions);
 		when(taxCalculationRepository.findByUserUserId(1L)).thenReturn(Optional.of(List.of(mockTaxCalculation)));
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.COMPLETED, Pageable.unpaged())).thenReturn(mockPaymentDTOs);
 
 		byte[] report = taxPaymentService.createTaxSummaryReport(1L);
 
@@ -594,7 +631,7 @@ class TaxPaymentServiceImplTest {
 		when(incomeService.getIncomesByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(Collections.emptyList());
 		when(deductionService.getDeductionsByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockDeductions);
 		when(taxCalculationRepository.findByUserUserId(1L)).thenReturn(Optional.of(List.of(mockTaxCalculation)));
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.COMPLETED, Pageable.unpaged())).thenReturn(mockPaymentDTOs);
 
 		assertThrows(ResourceNotFoundException.class, () -> taxPaymentService.createTaxSummaryReport(1L));
 	}
@@ -606,7 +643,7 @@ class TaxPaymentServiceImplTest {
 		when(deductionService.getDeductionsByYearAndUserId(1L, Year.now().getValue(), 0))
 				.thenReturn(Collections.emptyList());
 		when(taxCalculationRepository.findByUserUserId(1L)).thenReturn(Optional.of(List.of(mockTaxCalculation)));
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.COMPLETED, Pageable.unpaged())).thenReturn(mockPaymentDTOs);
 
 		assertThrows(ResourceNotFoundException.class, () -> taxPaymentService.createTaxSummaryReport(1L));
 	}
@@ -617,7 +654,7 @@ class TaxPaymentServiceImplTest {
 		when(incomeService.getIncomesByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockIncomes);
 		when(deductionService.getDeductionsByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockDeductions);
 		when(taxCalculationRepository.findByUserUserId(1L)).thenReturn(Optional.of(List.of(mockTaxCalculation)));
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(Collections.emptyList());
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.COMPLETED, Pageable.unpaged())).thenReturn(Collections.emptyList());
 
 		assertThrows(ResourceNotFoundException.class, () -> taxPaymentService.createTaxSummaryReport(1L));
 	}
@@ -628,7 +665,7 @@ class TaxPaymentServiceImplTest {
 		when(incomeService.getIncomesByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockIncomes);
 		when(deductionService.getDeductionsByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockDeductions);
 		when(taxCalculationRepository.findByUserUserId(1L)).thenReturn(Optional.of(List.of(mockTaxCalculation)));
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.COMPLETED, Pageable.unpaged())).thenReturn(mockPaymentDTOs);
 
 		TaxPaymentService taxPaymentServiceSpy = spy(taxPaymentService);
 
@@ -644,7 +681,7 @@ class TaxPaymentServiceImplTest {
 		when(incomeService.getIncomesByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockIncomes);
 		when(deductionService.getDeductionsByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockDeductions);
 		when(taxCalculationRepository.findByUserUserId(1L)).thenReturn(Optional.of(List.of(mockTaxCalculation)));
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.COMPLETED, Pageable.unpaged())).thenReturn(mockPaymentDTOs);
 
 		TaxPaymentService taxPaymentServiceSpy = spy(taxPaymentService);
 
@@ -660,7 +697,7 @@ class TaxPaymentServiceImplTest {
 		when(incomeService.getIncomesByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockIncomes);
 		when(deductionService.getDeductionsByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockDeductions);
 		when(taxCalculationRepository.findByUserUserId(1L)).thenReturn(Optional.of(List.of(mockTaxCalculation)));
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.COMPLETED, Pageable.unpaged())).thenReturn(mockPaymentDTOs);
 
 		byte[] report = taxPaymentService.generateTaxTranscript(1L);
 
@@ -682,7 +719,7 @@ class TaxPaymentServiceImplTest {
 		when(incomeService.getIncomesByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(Collections.emptyList());
 		when(deductionService.getDeductionsByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockDeductions);
 		when(taxCalculationRepository.findByUserUserId(1L)).thenReturn(Optional.of(List.of(mockTaxCalculation)));
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.COMPLETED, Pageable.unpaged())).thenReturn(mockPaymentDTOs);
 
 		assertThrows(ResourceNotFoundException.class, () -> taxPaymentService.generateTaxTranscript(1L));
 	}
@@ -694,7 +731,7 @@ class TaxPaymentServiceImplTest {
 		when(deductionService.getDeductionsByYearAndUserId(1L, Year.now().getValue(), 0))
 				.thenReturn(Collections.emptyList());
 		when(taxCalculationRepository.findByUserUserId(1L)).thenReturn(Optional.of(List.of(mockTaxCalculation)));
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.COMPLETED, Pageable.unpaged())).thenReturn(mockPaymentDTOs);
 
 		assertThrows(ResourceNotFoundException.class, () -> taxPaymentService.generateTaxTranscript(1L));
 	}
@@ -705,7 +742,7 @@ class TaxPaymentServiceImplTest {
 		when(incomeService.getIncomesByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockIncomes);
 		when(deductionService.getDeductionsByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockDeductions);
 		when(taxCalculationRepository.findByUserUserId(1L)).thenReturn(Optional.of(List.of(mockTaxCalculation)));
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(Collections.emptyList());
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.COMPLETED, Pageable.unpaged())).thenReturn(Collections.emptyList());
 
 		assertThrows(ResourceNotFoundException.class, () -> taxPaymentService.generateTaxTranscript(1L));
 	}
@@ -718,7 +755,7 @@ class TaxPaymentServiceImplTest {
 		when(deductionService.getDeductionsByYearAndUserId(1L, Year.now().getValue(), 0)).thenReturn(mockDeductions);
 		when(taxCalculationRepository.findByUserUserId(1L))
 				.thenReturn(Optional.of(List.of(mockTaxCalculation, mockAmendmentTaxCalculation)));
-		when(taxPaymentRepository.findAllByUserUserId(1L)).thenReturn(mockTaxPayments);
+		when(taxPaymentRepository.findDetailsByUserIdAndPaymentStatus(1L, PaymentStatus.COMPLETED, Pageable.unpaged())).thenReturn(mockPaymentDTOs);
 		when(incomeService.getIncomesByYearAndUserId(1L, Year.now().getValue(), 1)).thenReturn(mockIncomes);
 		when(deductionService.getDeductionsByYearAndUserId(1L, Year.now().getValue(), 1)).thenReturn(mockDeductions);
 
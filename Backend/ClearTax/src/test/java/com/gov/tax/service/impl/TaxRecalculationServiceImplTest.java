@@ -0,0 +1,112 @@
+package com.gov.tax.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gov.tax.dto.BulkTaxCalculationDTO;
+import com.gov.tax.dto.TaxRecalculationStatusDTO;
+import com.gov.tax.exception.ResourceAlreadyExistsException;
+import com.gov.tax.repository.UserRepository;
+import com.gov.tax.service.TaxCalculationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TaxRecalculationServiceImplTest {
+
+	private static final int YEAR = 2025;
+	private static final int PAGE_SIZE = 2;
+
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private TaxCalculationService taxCalculationService;
+
+	private SimpleMeterRegistry meterRegistry;
+	private TaxRecalculationServiceImpl taxRecalculationService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		taxRecalculationService = new TaxRecalculationServiceImpl(userRepository, taxCalculationService,
+				meterRegistry);
+		ReflectionTestUtils.setField(taxRecalculationService, "pageSize", PAGE_SIZE);
+		ReflectionTestUtils.setField(taxRecalculationService, "parallelism", 2);
+		taxRecalculationService.startExecutors();
+	}
+
+	@AfterEach
+	void tearDown() {
+		taxRecalculationService.stopExecutors();
+	}
+
+	@Test
+	void testStartRecalculation_ProcessesAllPages() throws InterruptedException {
+		when(userRepository.findUserIdsAfter(0L, PageRequest.of(0, PAGE_SIZE))).thenReturn(List.of(1L, 2L));
+		when(userRepository.findUserIdsAfter(2L, PageRequest.of(0, PAGE_SIZE))).thenReturn(List.of(3L));
+		when(userRepository.findUserIdsAfter(3L, PageRequest.of(0, PAGE_SIZE))).thenReturn(List.of());
+		when(taxCalculationService.calculateTaxLiabilityInBulk(YEAR, Set.of(1L, 2L)))
+				.thenReturn(BulkTaxCalculationDTO.builder().taxYear(YEAR).created(1).updated(1).build());
+		when(taxCalculationService.calculateTaxLiabilityInBulk(YEAR, Set.of(3L)))
+				.thenThrow(new IllegalStateException("Deadlock"));
+
+		taxRecalculationService.startRecalculation(YEAR);
+		TaxRecalculationStatusDTO status = awaitCompletion();
+
+		assertEquals("Completed", status.getStatus());
+		assertEquals(3, status.getProcessedUsers());
+		assertEquals(1, status.getCreated());
+		assertEquals(1, status.getUpdated());
+		assertEquals(1, status.getFailedUsers());
+		assertEquals(1, status.getFailedPages());
+		assertEquals("Deadlock", status.getLastError());
+		assertEquals(1.0, meterRegistry.counter("tax.recalculation.users", "outcome", "failed").count());
+	}
+
+	@Test
+	void testStartRecalculation_AlreadyRunning() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		when(userRepository.findUserIdsAfter(eq(0L), any())).thenAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return List.of();
+		});
+
+		taxRecalculationService.startRecalculation(YEAR);
+		assertThrows(ResourceAlreadyExistsException.class, () -> taxRecalculationService.startRecalculation(YEAR));
+
+		release.countDown();
+		assertEquals("Completed", awaitCompletion().getStatus());
+	}
+
+	@Test
+	void testGetStatus_Idle() {
+		assertEquals("Idle", taxRecalculationService.getStatus().getStatus());
+	}
+
+	private TaxRecalculationStatusDTO awaitCompletion() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		TaxRecalculationStatusDTO status = taxRecalculationService.getStatus();
+		while ("Running".equals(status.getStatus()) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+			status = taxRecalculationService.getStatus();
+		}
+		return status;
+	}
+}
@@ -0,0 +1,159 @@
+package com.gov.tax.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.gov.tax.config.ReplicaLagGuard;
+import com.gov.tax.dto.TaxYearTotalsDTO;
+import com.gov.tax.entity.TaxYearSummary;
+import com.gov.tax.entity.User;
+import com.gov.tax.exception.ResourceNotFoundException;
+import com.gov.tax.repository.DeductionRepository;
+import com.gov.tax.repository.IncomeRepository;
+import com.gov.tax.repository.TaxYearSummaryInsertRepository;
+import com.gov.tax.repository.TaxYearSummaryRepository;
+import com.gov.tax.repository.UserRepository;
+import com.gov.tax.repository.projection.AmountSummary;
+
+@ExtendWith(MockitoExtension.class)
+class TaxYearSummaryServiceImplTest {
+
+	private static final Long USER_ID = 1L;
+	private static final int YEAR = 2025;
+
+	@InjectMocks
+	private TaxYearSummaryServiceImpl taxYearSummaryService;
+
+	@Mock
+	private TaxYearSummaryRepository taxYearSummaryRepository;
+	@Mock
+	private TaxYearSummaryInsertRepository taxYearSummaryInsertRepository;
+	@Mock
+	private IncomeRepository incomeRepository;
+	@Mock
+	private DeductionRepository deductionRepository;
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private ReplicaLagGuard replicaLagGuard;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = new User();
+		user.setUserId(USER_ID);
+	}
+
+	@Test
+	void testRecordIncomeChange_UpdatesExistingSummary() {
+		when(taxYearSummaryRepository.addIncome(USER_ID, Year.of(YEAR), 0, new BigDecimal("1000"), 1L)).thenReturn(1);
+
+		taxYearSummaryService.recordIncomeChange(USER_ID, LocalDate.of(YEAR, 6, 1), 0, new BigDecimal("1000"), 1L);
+
+		verify(taxYearSummaryInsertRepository, never()).insertIfAbsent(any(TaxYearSummary.class));
+	}
+
+	@Test
+	void testRecordDeductionChange_BuildsMissingSummary() {
+		when(taxYearSummaryRepository.addDeduction(USER_ID, Year.of(YEAR), 0, new BigDecimal("500"), 1L))
+				.thenReturn(0);
+		when(incomeRepository.summarizeByUserUserIdAndTaxYearAndIsAmended(USER_ID, Year.of(YEAR), 0))
+				.thenReturn(new AmountSummary(new BigDecimal("90000"), 2L));
+		when(deductionRepository.summarizeByUserUserIdAndTaxYearAndIsAmended(USER_ID, Year.of(YEAR), 0))
+				.thenReturn(new AmountSummary(new BigDecimal("500"), 1L));
+		when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+		TaxYearSummary built = TaxYearSummary.builder().user(user).taxYear(Year.of(YEAR)).isAmended(0)
+				.grossIncome(new BigDecimal("90000")).incomeCount(2L).totalDeductions(new BigDecimal("500"))
+				.deductionCount(1L).build();
+		when(taxYearSummaryInsertRepository.insertIfAbsent(built)).thenReturn(true);
+
+		taxYearSummaryService.recordDeductionChange(USER_ID, LocalDate.of(YEAR, 3, 31), 0, new BigDecimal("500"), 1L);
+
+		// the built summary already holds the change, so it is not added again
+		verify(taxYearSummaryRepository).flush();
+		verify(taxYearSummaryRepository, times(1)).addDeduction(USER_ID, Year.of(YEAR), 0, new BigDecimal("500"), 1L);
+	}
+
+	@Test
+	void testRecordIncomeChange_SummaryBuiltConcurrently() {
+		when(taxYearSummaryRepository.addIncome(USER_ID, Year.of(YEAR), 0, new BigDecimal("1000"), 1L)).thenReturn(0,
+				1);
+		when(incomeRepository.summarizeByUserUserIdAndTaxYearAndIsAmended(USER_ID, Year.of(YEAR), 0))
+				.thenReturn(new AmountSummary(new BigDecimal("1000"), 1L));
+		when(deductionRepository.summarizeByUserUserIdAndTaxYearAndIsAmended(USER_ID, Year.of(YEAR), 0))
+				.thenReturn(new AmountSummary(null, 0L));
+		when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+		when(taxYearSummaryInsertRepository.insertIfAbsent(any(TaxYearSummary.class))).thenReturn(false);
+
+		taxYearSummaryService.recordIncomeChange(USER_ID, LocalDate.of(YEAR, 6, 1), 0, new BigDecimal("1000"), 1L);
+
+		// the other write's summary does not hold this change, so it is added to it
+		verify(taxYearSummaryRepository, times(2)).addIncome(USER_ID, Year.of(YEAR), 0, new BigDecimal("1000"), 1L);
+	}
+
+	@Test
+	void testGetTotals_CombinesAmendmentStatuses() {
+		TaxYearSummary original = TaxYearSummary.builder().user(user).taxYear(Year.of(YEAR)).isAmended(0)
+				.grossIncome(new BigDecimal("500000")).incomeCount(2L).totalDeductions(new BigDecimal("50000"))
+				.deductionCount(1L).build();
+		TaxYearSummary amended = TaxYearSummary.builder().user(user).taxYear(Year.of(YEAR)).isAmended(1)
+				.grossIncome(new BigDecimal("25000")).incomeCount(1L).build();
+		when(taxYearSummaryRepository.findByUserUserIdAndTaxYear(USER_ID, Year.of(YEAR)))
+				.thenReturn(List.of(original, amended));
+
+		TaxYearTotalsDTO totals = taxYearSummaryService.getTotals(USER_ID, YEAR);
+
+		assertEquals(new BigDecimal("525000"), totals.getGrossIncome());
+		assertEquals(3L, totals.getIncomeCount());
+		assertEquals(new BigDecimal("50000"), totals.getTotalDeductions());
+		assertTrue(totals.hasDeductions());
+		verify(userRepository, never()).existsById(USER_ID);
+	}
+
+	@Test
+	void testGetTotals_ReadsMissingSummariesFromLineItems() {
+		when(taxYearSummaryRepository.findByUserUserIdAndTaxYear(USER_ID, Year.of(YEAR))).thenReturn(List.of());
+		when(userRepository.existsById(USER_ID)).thenReturn(true);
+		when(incomeRepository.summarizeByUserUserIdAndTaxYearAndIsAmended(eq(USER_ID), eq(Year.of(YEAR)),
+				anyInt())).thenReturn(new AmountSummary(null, 0L));
+		when(deductionRepository.summarizeByUserUserIdAndTaxYearAndIsAmended(eq(USER_ID), eq(Year.of(YEAR)),
+				anyInt())).thenReturn(new AmountSummary(null, 0L));
+
+		TaxYearTotalsDTO totals = taxYearSummaryService.getTotals(USER_ID, YEAR);
+
+		assertFalse(totals.hasIncome());
+		assertFalse(totals.hasDeductions());
+		assertEquals(BigDecimal.ZERO, totals.getGrossIncome());
+		verify(taxYearSummaryInsertRepository, never()).insertIfAbsent(any(TaxYearSummary.class));
+	}
+
+	@Test
+	void testGetTotals_UserNotFound() {
+		when(taxYearSummaryRepository.findByUserUserIdAndTaxYear(USER_ID, Year.of(YEAR))).thenReturn(List.of());
+		when(userRepository.existsById(USER_ID)).thenReturn(false);
+
+		assertThrows(ResourceNotFoundException.class, () -> taxYearSummaryService.getTotals(USER_ID, YEAR));
+	}
+}
@@ -1,9 +1,8 @@
 package com.gov.tax.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
@@ -11,7 +10,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,18 +21,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.gov.tax.dto.RegisterUserDTO;
 import com.gov.tax.dto.UpdateUserDTO;
 import com.gov.tax.dto.UserDTO;
+import com.gov.tax.dto.UserPageDTO;
 import com.gov.tax.entity.User;
+import com.gov.tax.exception.InvalidRequestException;
 import com.gov.tax.exception.ResourceAlreadyExistsException;
 import com.gov.tax.exception.ResourceNotChnagedException;
 import com.gov.tax.exception.ResourceNotFoundException;
 import com.gov.tax.mapper.UserMapper;
 import com.gov.tax.repository.UserRepository;
 
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+
 @ExtendWith(MockitoExtension.class)
 class UserServiceImplTest {
 
@@ -46,6 +51,12 @@ class UserServiceImplTest {
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
+	@Mock
+	private EntityManagerFactory entityManagerFactory;
+
+	@Mock
+	private Cache secondLevelCache;
+
 	@InjectMocks
 	@Spy
 	private UserServiceImpl userService;
@@ -154,30 +165,78 @@ class UserServiceImplTest {
 	}
 
 	@Test
-	void testGetAllUsers_Success() {
+	void testGetUserReference_CachedUser() {
 		// Arrange
-		when(userRepository.findAll()).thenReturn(List.of(testUser));
-		when(userMapper.toDTO(testUser)).thenReturn(userDTO);
+		when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+		when(secondLevelCache.contains(User.class, TEST_USER_ID)).thenReturn(true);
+		when(userRepository.getReferenceById(TEST_USER_ID)).thenReturn(testUser);
+
+		// Act & Assert
+		assertEquals(testUser, userService.getUserReference(TEST_USER_ID));
+		verify(userRepository, never()).existsById(TEST_USER_ID);
+	}
+
+	@Test
+	void testGetUserReference_UserNotFound() {
+		// Arrange
+		when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+		when(userRepository.existsById(TEST_USER_ID)).thenReturn(false);
+
+		// Act & Assert
+		assertThrows(ResourceNotFoundException.class, () -> userService.getUserReference(TEST_USER_ID));
+		verify(userRepository, never()).getReferenceById(TEST_USER_ID);
+	}
+
+	@Test
+	void testGetUsers_LastPage() {
+		// Arrange
+		when(userRepository.findUsersAfter(0L, null, null, null, PageRequest.of(0, 51))).thenReturn(List.of(userDTO));
 
 		// Act
-		List<UserDTO> users = userService.getAllUsers();
+		UserPageDTO page = userService.getUsers(null, 50, null, null, null);
 
 		// Assert
-		assertFalse(users.isEmpty());
-		assertEquals(1, users.size());
-		assertEquals(TEST_EMAIL, users.get(0).getEmail());
+		assertEquals(1, page.getUsers().size());
+		assertEquals(TEST_EMAIL, page.getUsers().get(0).getEmail());
+		assertNull(page.getNextCursor());
+	}
+
+	@Test
+	void testGetUsers_HasNextPage() {
+		// Arrange
+		UserDTO secondUser = UserDTO.builder().userId(2).name("Second User").userRole("USER").build();
+		when(userRepository.findUsersAfter(0L, "USER", null, null, PageRequest.of(0, 2)))
+				.thenReturn(List.of(userDTO, secondUser));
+
+		// Act
+		UserPageDTO page = userService.getUsers(0L, 1, "USER", null, null);
+
+		// Assert
+		assertEquals(List.of(userDTO), page.getUsers());
+		assertEquals(1L, page.getNextCursor());
+	}
+
+	@Test
+	void testGetUsers_InvalidPageSize() {
+		// Act & Assert
+		assertThrows(InvalidRequestException.class, () -> userService.getUsers(null, 501, null, null, null));
+		verify(userRepository, never()).findUsersAfter(any(), any(), any(), any(), any());
 	}
 
 	@Test
-	void testGetAllUsers_EmptyList() {
+	void testForEachUser_VisitsUsersChunkByChunk() {
 		// Arrange
-		when(userRepository.findAll()).thenReturn(Collections.emptyList());
+		when(userRepository.findUsersAfter(0L, "USER", null, null, PageRequest.of(0, 500))).thenReturn(List.of(userDTO));
+		when(userRepository.findUsersAfter(userDTO.getUserId(), "USER", null, null, PageRequest.of(0, 500)))
+				.thenReturn(List.of());
+		List<UserDTO> visited = new ArrayList<>();
 
 		// Act
-		List<UserDTO> users = userService.getAllUsers();
+		userService.forEachUser("USER", null, null, visited::add);
 
 		// Assert
-		assertTrue(users.isEmpty());
+		assertEquals(List.of(userDTO), visited);
+		verify(userRepository, times(2)).findUsersAfter(any(), any(), any(), any(), any());
 	}
 
 	@Test
@@ -186,6 +245,7 @@ class UserServiceImplTest {
 		when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(testUser));
 		when(userRepository.save(any(User.class))).thenReturn(testUser);
 		when(userMapper.toDTO(any(User.class))).thenReturn(userDTO);
+		when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
 
 		// Act
 		UserDTO updatedUser = userService.updateUserProfile(TEST_EMAIL, updateUserDTO);
@@ -193,6 +253,7 @@ class UserServiceImplTest {
 		// Assert
 		assertEquals(TEST_NAME, updatedUser.getName());
 		verify(userRepository, times(1)).save(any(User.class));
+		verify(secondLevelCache).evict(User.class, TEST_USER_ID);
 	}
 
 	@Test
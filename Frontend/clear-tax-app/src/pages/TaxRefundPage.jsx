@@ -90,6 +90,7 @@ const TaxRefundPage = () => {
       // Update status to 'In Progress'
       await updateTaxRefundStatus(user.userId, {
         refundStatus: "In Progress",
+        expectedStatus: taxRefund.refundStatus,
         bankDetails,
       });
       setTaxRefund({
@@ -190,6 +191,7 @@ const TaxRefundPage = () => {
         // Update refund status to "Completed" in DB
         updateTaxRefundStatus(user.userId, {
           refundStatus: "Completed",
+          expectedStatus: "In Progress",
           refundCompletionDate: currentDate,
         });
         setTaxRefund({ ...taxRefund, refundStatus: "Completed" });
@@ -13,16 +13,27 @@ export const getTaxPaymentByUserId = async (userId) => {
   }
 };
 
-// Get List of tax Payments By userID
+// The largest page the payment history endpoint serves
+const PAYMENT_PAGE_SIZE = 500;
+
+// Get List of tax Payments By userID, following the pages until the last one
 export const getAllTaxPaymentByUserId = async (userId) => {
-  try {
-    const response = await BaseApi.get(
-      `/track-payments/getAllTaxPaymentByUserId?userId=${userId}`
-    );
-    return response.data;
-  } catch (error) {
-    // console.error("Error fetching All Tax Payments by ID:", error);
-    // throw error;
+  const payments = [];
+  for (let page = 0; ; page++) {
+    try {
+      const response = await BaseApi.get(
+        `/track-payments/getAllTaxPaymentByUserId?userId=${userId}&page=${page}&size=${PAYMENT_PAGE_SIZE}`
+      );
+      payments.push(...response.data);
+      if (response.data.length < PAYMENT_PAGE_SIZE) {
+        return payments;
+      }
+    } catch (error) {
+      // console.error("Error fetching All Tax Payments by ID:", error);
+      // throw error;
+      // a page past the last payment answers 404
+      return page === 0 ? undefined : payments;
+    }
   }
 };
 
@@ -19,6 +19,7 @@ export const updateTaxRefundStatus = async (userId, refundData) => {
         `/tax-refund/update-status/${userId}`,
         {
           refundStatus: refundData.refundStatus,
+          expectedStatus: refundData.expectedStatus,
           bankDetails: refundData.bankDetails,
         }
       );
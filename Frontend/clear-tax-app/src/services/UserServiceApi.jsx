@@ -22,10 +22,10 @@ export const getUserByEmail = async (email) => {
   }
 };
 
-// Fetch all users
-export const getAllUsers = async () => {
+// Fetch one page of users; pass the returned nextCursor as afterUserId for the next page
+export const getAllUsers = async (params) => {
   try {
-    const response = await BaseApi.get(`/users/all`);
+    const response = await BaseApi.get(`/users/all`, { params });
     return response.data;
   } catch (error) {
     // console.error("Error fetching users", error);